@@ -0,0 +1,43 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Generates reproducible rosters for benchmarks: names are drawn from small first/last name pools so searches have
+ * realistic selectivity, and the same size always yields the same roster.
+ */
+public final class SyntheticRoster {
+
+    private static final long SEED = 42;
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Jane", "Michael", "Emily", "David", "Sarah", "Robert", "Jennifer", "William", "Elizabeth"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Miller", "Davis", "Garcia", "Rodriguez", "Wilson"
+    };
+
+    private SyntheticRoster() {}
+
+    public static List<Employee> generate(int employees) {
+        final var random = new Random(SEED);
+        return IntStream.range(0, employees)
+                .mapToObj(i -> {
+                    final var firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    final var lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    return Employee.builder()
+                            .id(new UUID(random.nextLong(), random.nextLong()))
+                            .name(firstName + " " + lastName + " " + i)
+                            .salary(30000 + random.nextInt(470000))
+                            .age(16 + random.nextInt(54))
+                            .title("Engineer")
+                            .email((firstName + "." + lastName + i).toLowerCase() + "@company.com")
+                            .build();
+                })
+                .toList();
+    }
+}
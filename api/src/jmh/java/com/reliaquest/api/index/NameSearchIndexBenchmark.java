@@ -0,0 +1,62 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.SyntheticRoster;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link NameSearchIndex} against the stream filter {@code EmplyeeService.getEmployeesByNameSearch} used
+ * before the index existed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchIndexBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int employees;
+
+    @Param({"Jo", "Garcia", "Emily Wil"})
+    private String searchString;
+
+    private List<Employee> roster;
+    private NameSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        roster = SyntheticRoster.generate(employees);
+        index = NameSearchIndex.build(roster);
+    }
+
+    @Benchmark
+    public List<Employee> streamFilter() {
+        return roster.stream()
+                .filter(employee -> employee.getName().contains(searchString))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndex() {
+        return index.search(searchString, false, NameSearchIndex.UNLIMITED);
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndexIgnoreCaseLimited() {
+        return index.search(searchString, true, 10);
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.SyntheticRoster;
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.repository.EmployeeStreamReader;
+import com.reliaquest.api.utils.ApiResponses;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Jackson mapping of {@link Employee} through {@link Employee.PrefixNamingStrategy}, for a single employee and for the
+ * full roster envelope as the api receives it, unwrapped with {@link ApiResponses#unwrap} or streamed through
+ * {@link EmployeeStreamReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER_TYPE = new TypeReference<>() {};
+
+    @Param({"1000", "100000"})
+    private int employees;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeStreamReader streamReader = new EmployeeStreamReader(objectMapper);
+
+    private Employee employee;
+    private byte[] employeeJson;
+    private ApiResponse<List<Employee>> roster;
+    private byte[] rosterJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        final var generated = SyntheticRoster.generate(employees);
+        employee = generated.get(0);
+        employeeJson = objectMapper.writeValueAsBytes(employee);
+        roster = new ApiResponse<>("Successfully processed request.", generated);
+        rosterJson = objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws IOException {
+        return objectMapper.readValue(employeeJson, Employee.class);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public byte[] serializeRoster() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Employee> deserializeRosterAndUnwrap() throws IOException {
+        return ApiResponses.unwrap(objectMapper.readValue(rosterJson, ROSTER_TYPE));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String streamRoster(Blackhole blackhole) throws IOException {
+        return streamReader.readEmployees(new ByteArrayInputStream(rosterJson), blackhole::consume);
+    }
+}
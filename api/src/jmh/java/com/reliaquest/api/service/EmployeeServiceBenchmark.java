@@ -0,0 +1,81 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.SyntheticRoster;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Read paths of {@link EmplyeeService} served from a warm {@link EmployeeSnapshotCache}, plus the cost of building the
+ * snapshot and its indexes that every background refresh pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int employees;
+
+    private List<Employee> roster;
+    private EmplyeeService service;
+
+    @Setup
+    public void setUp() {
+        roster = SyntheticRoster.generate(employees);
+        final var snapshot = EmployeeSnapshot.of(roster, Instant.now());
+        final var cache = new EmployeeSnapshotCache(() -> snapshot);
+        cache.get().getNameSearchIndex();
+
+        service = new EmplyeeService();
+        final var field =
+                Objects.requireNonNull(ReflectionUtils.findField(EmplyeeService.class, "employeeSnapshotCache"));
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, service, cache);
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return service.getEmployeesByNameSearch("Garcia");
+    }
+
+    @Benchmark
+    public List<Employee> searchByNameIgnoreCaseLimited() {
+        return service.getEmployeesByNameSearch("emily wil", true, 10);
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return service.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> topTenHighestEarningEmployeeNames() {
+        return service.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object snapshotRebuild() {
+        return EmployeeSnapshot.of(roster, Instant.now()).getNameSearchIndex();
+    }
+}
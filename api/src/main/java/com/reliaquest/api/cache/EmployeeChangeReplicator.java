@@ -0,0 +1,116 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.DTO.EmployeeChanges;
+import com.reliaquest.api.repository.EmployeeClient;
+import com.reliaquest.api.utils.ApiResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the cached snapshot in step with the remote roster by applying its change log; enabled with
+ * {@code employee.cache.replication.enabled=true}.
+ *
+ * <p>The snapshot's {@code ETag} names the roster version it holds, so every
+ * {@code employee.cache.replication.interval-ms} the replicator asks for the changes after that version and patches
+ * them into the snapshot, transferring only the changes rather than the roster. If the log has moved past the
+ * snapshot, or the remote service restarted, it falls back to a full refresh. Each poll costs at least one request
+ * against the remote rate limit, so the interval must fit the mock server's {@code mock.rate-limit} budget.
+ *
+ * <p>Only the streaming loader records the {@code ETag}, so replication refuses to start with any other
+ * {@code employee.cache.loader}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.cache.replication.enabled", havingValue = "true")
+public class EmployeeChangeReplicator {
+
+    private final EmployeeClient employeeClient;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final int batchSize;
+
+    public EmployeeChangeReplicator(
+            EmployeeClient employeeClient,
+            EmployeeSnapshotCache employeeSnapshotCache,
+            @Value("${employee.cache.replication.batch-size:1000}") int batchSize,
+            @Value("${employee.cache.loader:streaming}") String loader) {
+        if (!"streaming".equals(loader)) {
+            throw new IllegalArgumentException(
+                    "Employee change replication needs employee.cache.loader=streaming, the only loader that records"
+                            + " the roster version, but it is " + loader);
+        }
+        this.employeeClient = employeeClient;
+        this.employeeSnapshotCache = employeeSnapshotCache;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${employee.cache.replication.interval-ms:1000}",
+            fixedDelayString = "${employee.cache.replication.interval-ms:1000}")
+    public void replicate() {
+        try {
+            EmployeeChanges changes;
+            do {
+                final var snapshot = employeeSnapshotCache.peek();
+                final var version = snapshot != null ? RosterVersion.parse(snapshot.getEtag()) : null;
+                if (version == null) {
+                    // Nothing to catch up from until a full load has recorded a version
+                    return;
+                }
+                changes = ApiResponses.unwrap(employeeClient.findChanges(version.sequence(), batchSize));
+                if (changes.isReset() || !version.epoch().equals(changes.getEpoch())) {
+                    log.info("Employee change log no longer covers version {}, refreshing snapshot", version);
+                    employeeSnapshotCache.refresh();
+                    return;
+                }
+                if (changes.getChanges() == null || changes.getChanges().isEmpty()) {
+                    return;
+                }
+                final var next = new RosterVersion(changes.getEpoch(), changes.getVersion());
+                if (!employeeSnapshotCache.applyChanges(snapshot, changes.getChanges(), next.toEtag())) {
+                    // The snapshot was replaced meanwhile; the next poll starts from the new one
+                    return;
+                }
+                log.debug("Replicated {} employee changes up to version {}", changes.getChanges().size(), next);
+            } while (changes.getChanges().size() >= batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to replicate employee changes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A remote roster version, as carried in the roster's {@code ETag}: {@code "<epoch>-<sequence>"}.
+     */
+    record RosterVersion(String epoch, long sequence) {
+
+        static RosterVersion parse(String etag) {
+            if (etag == null) {
+                return null;
+            }
+            var value = etag.startsWith("W/") ? etag.substring(2) : etag;
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            final int separator = value.lastIndexOf('-');
+            if (separator <= 0) {
+                return null;
+            }
+            try {
+                return new RosterVersion(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        String toEtag() {
+            return "\"" + epoch + "-" + sequence + "\"";
+        }
+
+        @Override
+        public String toString() {
+            return epoch + "-" + sequence;
+        }
+    }
+}
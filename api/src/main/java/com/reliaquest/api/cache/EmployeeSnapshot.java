@@ -0,0 +1,305 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.index.ColumnarRoster;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.model.DTO.EmployeeChange;
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Immutable point-in-time copy of the remote employee roster.
+ *
+ * <p>Patching methods never mutate the receiver; they return a new snapshot so readers holding a reference keep a
+ * consistent view.
+ *
+ * <p>A snapshot holds its employees either as objects with on-heap indexes, or, after {@link #columnar()}, as an
+ * off-heap {@link ColumnarRoster} that answers lookups, searches and salary aggregates itself and only materializes the
+ * employees it returns. Patching a columnar snapshot yields a columnar snapshot that shares the direct buffers and
+ * keeps the patched employees in a small on-heap overlay; the roster merges the overlay into new buffers only once it
+ * grows large, and a refresh replaces the snapshot with freshly built columns. Each merge still leaves the replaced
+ * buffers to the garbage collector, so {@code -XX:MaxDirectMemorySize} needs headroom for about two rosters.
+ *
+ * <p>Employees without an ID cannot be looked up or patched, so snapshots leave them out.
+ */
+public final class EmployeeSnapshot {
+
+    // Null in the columnar layout, like employees and salaryIndex
+    private final Map<UUID, Employee> employeesById;
+    private final List<Employee> employees;
+    private final SalaryIndex salaryIndex;
+    private final ColumnarRoster columns;
+
+    @Getter
+    private final Instant loadedAt;
+
+    /**
+     * The remote {@code ETag} of the roster this snapshot was loaded or last replicated from, or {@code null} if
+     * unknown. Local patches keep it: the remote version has moved past them, so revalidating or replicating from it
+     * re-reads the patched changes, which is harmless.
+     */
+    @Getter
+    private final String etag;
+
+    private volatile NameSearchIndex nameSearchIndex;
+
+    private EmployeeSnapshot(Map<UUID, Employee> employeesById, SalaryIndex salaryIndex, Instant loadedAt) {
+        this(employeesById, salaryIndex, loadedAt, null);
+    }
+
+    private EmployeeSnapshot(
+            Map<UUID, Employee> employeesById, SalaryIndex salaryIndex, Instant loadedAt, String etag) {
+        this.employeesById = employeesById;
+        this.employees = Collections.unmodifiableList(new ArrayList<>(employeesById.values()));
+        this.salaryIndex = salaryIndex != null ? salaryIndex : SalaryIndex.build(this.employees);
+        this.columns = null;
+        this.loadedAt = loadedAt;
+        this.etag = etag;
+    }
+
+    private EmployeeSnapshot(ColumnarRoster columns, Instant loadedAt, String etag) {
+        this.employeesById = null;
+        this.employees = null;
+        this.salaryIndex = null;
+        this.columns = columns;
+        this.loadedAt = loadedAt;
+        this.etag = etag;
+    }
+
+    private EmployeeSnapshot(EmployeeSnapshot source, Instant loadedAt) {
+        this.employeesById = source.employeesById;
+        this.employees = source.employees;
+        this.salaryIndex = source.salaryIndex;
+        this.columns = source.columns;
+        this.nameSearchIndex = source.nameSearchIndex;
+        this.loadedAt = loadedAt;
+        this.etag = source.etag;
+    }
+
+    public static EmployeeSnapshot of(@NonNull List<Employee> employees, @NonNull Instant loadedAt) {
+        final var employeesById = new LinkedHashMap<UUID, Employee>(employees.size() * 4 / 3 + 1);
+        employees.stream()
+                .filter(employee -> employee != null && employee.getId() != null)
+                .forEach(employee -> employeesById.put(employee.getId(), employee));
+        return new EmployeeSnapshot(employeesById, null, loadedAt);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Optional<Employee> findById(UUID id) {
+        if (columns != null) {
+            return columns.findById(id);
+        }
+        return Optional.ofNullable(employeesById.get(id));
+    }
+
+    /**
+     * @return the employees in roster order; a columnar snapshot materializes them on every call
+     */
+    public List<Employee> getEmployees() {
+        return columns != null ? columns.employees() : employees;
+    }
+
+    public int getMaxSalary() {
+        return columns != null ? columns.getMaxSalary() : salaryIndex.getMaxSalary();
+    }
+
+    /**
+     * @return the names of the top {@value SalaryIndex#TOP_K} earners, highest first
+     */
+    public List<String> getTopEarnerNames() {
+        return columns != null ? columns.getTopEarnerNames() : salaryIndex.getTopEarnerNames();
+    }
+
+    /**
+     * @return the employees whose name contains {@code fragment}, in roster order, from the name index or the columns
+     */
+    public List<Employee> searchByName(@NonNull String fragment, boolean ignoreCase, int limit) {
+        if (columns != null) {
+            return columns.search(fragment, ignoreCase, limit);
+        }
+        return getNameSearchIndex().search(fragment, ignoreCase, limit);
+    }
+
+    public boolean isColumnar() {
+        return columns != null;
+    }
+
+    /**
+     * @return a copy of this snapshot in the columnar layout, or this snapshot if it already is columnar
+     */
+    public EmployeeSnapshot columnar() {
+        if (columns != null) {
+            return this;
+        }
+        return new EmployeeSnapshot(ColumnarRoster.build(employees), loadedAt, etag);
+    }
+
+    /**
+     * @return the name index of this snapshot, built on first use so that patching the snapshot stays cheap; a columnar
+     *     snapshot builds it from its materialized employees and keeps them on the heap, so prefer
+     *     {@link #searchByName}, which searches the columns directly
+     */
+    public NameSearchIndex getNameSearchIndex() {
+        var index = nameSearchIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = nameSearchIndex;
+                if (index == null) {
+                    index = NameSearchIndex.build(getEmployees());
+                    nameSearchIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return this snapshot, confirmed unchanged by the remote service at {@code loadedAt}; shares all data and indexes
+     */
+    public EmployeeSnapshot revalidated(@NonNull Instant loadedAt) {
+        return new EmployeeSnapshot(this, loadedAt);
+    }
+
+    public int size() {
+        return columns != null ? columns.size() : employees.size();
+    }
+
+    /**
+     * @return a copy of this snapshot including the given employee, replacing any entry with the same ID
+     */
+    public EmployeeSnapshot with(@NonNull Employee employee) {
+        if (columns != null) {
+            return patchColumns(List.of(created(employee)), etag);
+        }
+        final var employeesById = new LinkedHashMap<>(this.employeesById);
+        final var replaced = employeesById.put(employee.getId(), employee);
+        // A replaced row keeps its position, so rebuild rather than append
+        return new EmployeeSnapshot(
+                employeesById, replaced == null ? salaryIndex.append(employee) : null, loadedAt, etag);
+    }
+
+    /**
+     * @return a copy of this snapshot without the given employee, or this snapshot if it was not present
+     */
+    public EmployeeSnapshot without(@NonNull UUID id) {
+        if (columns != null) {
+            return patchColumns(List.of(deleted(id)), etag);
+        }
+        final var removed = employeesById.get(id);
+        if (removed == null) {
+            return this;
+        }
+        final var employeesById = new LinkedHashMap<>(this.employeesById);
+        employeesById.remove(id);
+        return new EmployeeSnapshot(employeesById, salaryIndex.remove(removed), loadedAt, etag);
+    }
+
+    /**
+     * Batch form of {@link #with(Employee)}, copying the snapshot and rebuilding its indexes once.
+     */
+    public EmployeeSnapshot withAll(@NonNull Collection<Employee> employees) {
+        if (employees.isEmpty()) {
+            return this;
+        }
+        if (columns != null) {
+            return patchColumns(employees.stream().map(EmployeeSnapshot::created).toList(), etag);
+        }
+        final var employeesById = new LinkedHashMap<>(this.employeesById);
+        employees.forEach(employee -> employeesById.put(employee.getId(), employee));
+        return new EmployeeSnapshot(employeesById, null, loadedAt, etag);
+    }
+
+    /**
+     * Batch form of {@link #without(UUID)}, copying the snapshot and rebuilding its indexes once.
+     */
+    public EmployeeSnapshot withoutAll(@NonNull Collection<UUID> ids) {
+        if (columns != null) {
+            return patchColumns(ids.stream().map(EmployeeSnapshot::deleted).toList(), etag);
+        }
+        if (ids.stream().noneMatch(employeesById::containsKey)) {
+            return this;
+        }
+        final var employeesById = new LinkedHashMap<>(this.employeesById);
+        ids.forEach(employeesById::remove);
+        return new EmployeeSnapshot(employeesById, null, loadedAt, etag);
+    }
+
+    /**
+     * Applies remote change log entries in order, copying the snapshot and rebuilding its indexes once.
+     *
+     * @param etag the {@code ETag} of the roster version the changes lead to
+     */
+    public EmployeeSnapshot withChanges(@NonNull List<EmployeeChange> changes, String etag) {
+        if (columns != null) {
+            return patchColumns(changes, etag);
+        }
+        final var employeesById = new LinkedHashMap<>(this.employeesById);
+        for (final var change : changes) {
+            final var employee = change.getEmployee();
+            if (employee == null || employee.getId() == null) {
+                continue;
+            }
+            if (change.getType() == EmployeeChange.Type.DELETED) {
+                employeesById.remove(employee.getId());
+            } else {
+                employeesById.put(employee.getId(), employee);
+            }
+        }
+        return new EmployeeSnapshot(employeesById, null, loadedAt, etag);
+    }
+
+    private EmployeeSnapshot patchColumns(List<EmployeeChange> changes, String etag) {
+        final var patched = columns.withChanges(changes);
+        return patched == columns && Objects.equals(etag, this.etag)
+                ? this
+                : new EmployeeSnapshot(patched, loadedAt, etag);
+    }
+
+    private static EmployeeChange created(Employee employee) {
+        return new EmployeeChange(0, EmployeeChange.Type.CREATED, employee);
+    }
+
+    private static EmployeeChange deleted(UUID id) {
+        return new EmployeeChange(0, EmployeeChange.Type.DELETED, Employee.builder().id(id).build());
+    }
+
+    /**
+     * Accumulates employees one at a time, e.g. while a roster response is being decoded.
+     */
+    public static final class Builder {
+        private final Map<UUID, Employee> employeesById = new LinkedHashMap<>();
+        private String etag;
+
+        private Builder() {}
+
+        public Builder etag(String etag) {
+            this.etag = etag;
+            return this;
+        }
+
+        public Builder add(Employee employee) {
+            if (employee != null && employee.getId() != null) {
+                employeesById.put(employee.getId(), employee);
+            }
+            return this;
+        }
+
+        public EmployeeSnapshot build(@NonNull Instant loadedAt) {
+            return new EmployeeSnapshot(employeesById, null, loadedAt, etag);
+        }
+    }
+}
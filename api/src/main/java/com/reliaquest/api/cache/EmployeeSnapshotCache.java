@@ -0,0 +1,234 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.DTO.EmployeeChange;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the latest {@link EmployeeSnapshot} of the remote roster so reads never go over the wire.
+ *
+ * <p>The first read loads the roster synchronously; afterwards it is refreshed in the background every
+ * {@code employee.cache.refresh-interval-ms}, revalidating the current snapshot when the {@link RosterLoader} supports
+ * it. Readers keep getting the previous snapshot while a refresh is running or after one fails. Local writes are
+ * patched into the current snapshot and re-applied on top of any refresh that was in flight when they happened, so a
+ * refresh never resurrects a deleted employee or drops a created one.
+ *
+ * <p>With {@link EmployeeChangeReplicator} enabled, remote changes are applied between refreshes as well.
+ *
+ * <p>With {@code employee.cache.columnar} set, every loaded roster is converted to the off-heap
+ * {@link EmployeeSnapshot#columnar() columnar layout} before it is published, so millions of employees do not sit on
+ * the heap as objects between requests.
+ *
+ * <p>Hits, cold loads, refresh outcomes, replicated changes, and the size and age of the current snapshot are
+ * published under {@code employee.cache.*}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSnapshotCache implements MeterBinder {
+
+    private final RosterLoader rosterLoader;
+
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final List<UnaryOperator<EmployeeSnapshot>> patchesDuringRefresh = new ArrayList<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder replicatedChanges = new LongAdder();
+
+    @Value("${employee.cache.columnar:false}")
+    private boolean columnar;
+
+    /**
+     * @return the current snapshot, loading it from the remote service if nothing has been cached yet
+     */
+    public EmployeeSnapshot get() {
+        final var current = snapshot.get();
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot.get() == null) {
+                loads.increment();
+                snapshot.set(load());
+            }
+            return snapshot.get();
+        }
+    }
+
+    /**
+     * @return the current snapshot, or {@code null} if nothing has been cached yet; never calls the remote service
+     */
+    public EmployeeSnapshot peek() {
+        return snapshot.get();
+    }
+
+    @Scheduled(
+            initialDelayString = "${employee.cache.refresh-interval-ms:30000}",
+            fixedDelayString = "${employee.cache.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            log.debug("Employee snapshot refresh already in progress, skipping");
+            return;
+        }
+        try {
+            final var previous = snapshot.get();
+            final var loaded = previous != null ? layout(rosterLoader.reload(previous)) : load();
+            synchronized (this) {
+                var patched = loaded;
+                for (final var patch : patchesDuringRefresh) {
+                    patched = patch.apply(patched);
+                }
+                snapshot.set(patched);
+            }
+            if (previous != null && loaded.getEtag() != null && loaded.getEtag().equals(previous.getEtag())) {
+                revalidations.increment();
+                log.debug("Employee snapshot unchanged, revalidated {} employees", loaded.size());
+            } else {
+                refreshes.increment();
+                log.debug("Refreshed employee snapshot with {} employees", loaded.size());
+            }
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            log.warn("Failed to refresh employee snapshot, serving previous one: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                patchesDuringRefresh.clear();
+            }
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Adds or replaces an employee in the cached snapshot after a successful remote create.
+     */
+    public void put(@NonNull Employee employee) {
+        patch(current -> current.with(employee));
+    }
+
+    /**
+     * Removes an employee from the cached snapshot after a successful remote delete.
+     */
+    public void evict(@NonNull UUID id) {
+        patch(current -> current.without(id));
+    }
+
+    /**
+     * Adds or replaces employees in the cached snapshot after a successful remote batch create.
+     */
+    public void putAll(@NonNull Collection<Employee> employees) {
+        final var copy = List.copyOf(employees);
+        patch(current -> current.withAll(copy));
+    }
+
+    /**
+     * Removes employees from the cached snapshot after a successful remote batch delete.
+     */
+    public void evictAll(@NonNull Collection<UUID> ids) {
+        final var copy = List.copyOf(ids);
+        patch(current -> current.withoutAll(copy));
+    }
+
+    /**
+     * Applies remote changes if {@code base} is still the current snapshot and no refresh is running; otherwise the
+     * changes may already be in, or be overtaken by, a newer snapshot, and the caller should start over from that one.
+     *
+     * @param etag the {@code ETag} of the roster version the changes lead to
+     * @return whether the changes were applied
+     */
+    public synchronized boolean applyChanges(
+            @NonNull EmployeeSnapshot base, @NonNull List<EmployeeChange> changes, String etag) {
+        if (snapshot.get() != base || refreshing.get()) {
+            return false;
+        }
+        snapshot.set(base.withChanges(changes, etag));
+        replicatedChanges.add(changes.size());
+        return true;
+    }
+
+    /**
+     * Drops the cached snapshot; the next read loads a fresh one.
+     */
+    public synchronized void invalidate() {
+        snapshot.set(null);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.cache.hits", hits, LongAdder::sum)
+                .description("Reads served from an already loaded snapshot")
+                .register(registry);
+        FunctionCounter.builder("employee.cache.loads", loads, LongAdder::sum)
+                .description("Reads that had to load the roster synchronously")
+                .register(registry);
+        FunctionCounter.builder("employee.cache.refreshes", refreshes, LongAdder::sum)
+                .description("Background refreshes")
+                .tag("outcome", "success")
+                .register(registry);
+        FunctionCounter.builder("employee.cache.refreshes", revalidations, LongAdder::sum)
+                .description("Background refreshes")
+                .tag("outcome", "not_modified")
+                .register(registry);
+        FunctionCounter.builder("employee.cache.refreshes", refreshFailures, LongAdder::sum)
+                .description("Background refreshes")
+                .tag("outcome", "failure")
+                .register(registry);
+        FunctionCounter.builder("employee.cache.replicated.changes", replicatedChanges, LongAdder::sum)
+                .description("Remote change log entries applied to the snapshot")
+                .register(registry);
+        Gauge.builder("employee.cache.size", snapshot, current -> current.get() != null ? current.get().size() : 0)
+                .description("Employees in the current snapshot")
+                .register(registry);
+        Gauge.builder("employee.cache.age", snapshot, EmployeeSnapshotCache::ageSeconds)
+                .description("Time since the current snapshot was loaded")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private static double ageSeconds(AtomicReference<EmployeeSnapshot> snapshot) {
+        final var current = snapshot.get();
+        return current != null ? Duration.between(current.getLoadedAt(), Instant.now()).toMillis() / 1000.0 : 0;
+    }
+
+    private synchronized void patch(UnaryOperator<EmployeeSnapshot> patch) {
+        final var current = snapshot.get();
+        if (current != null) {
+            snapshot.set(patch.apply(current));
+        }
+        if (refreshing.get()) {
+            patchesDuringRefresh.add(patch);
+        }
+    }
+
+    private EmployeeSnapshot load() {
+        return layout(rosterLoader.load());
+    }
+
+    private EmployeeSnapshot layout(EmployeeSnapshot loaded) {
+        return columnar ? loaded.columnar() : loaded;
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.repository.EmployeeClientCoalescer;
+import com.reliaquest.api.utils.ApiResponses;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the roster through the fully decoded {@code findAll} response; selected with
+ * {@code employee.cache.loader=full}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.cache.loader", havingValue = "full")
+public class FullRosterLoader implements RosterLoader {
+
+    private final EmployeeClientCoalescer employeeClientCoalescer;
+
+    @Override
+    public EmployeeSnapshot load() {
+        return EmployeeSnapshot.of(ApiResponses.unwrap(employeeClientCoalescer.findAll()), Instant.now());
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.repository.EmployeeClient;
+import com.reliaquest.api.utils.ApiResponses;
+import com.reliaquest.api.utils.SingleFlight;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Walks the roster page by page with {@code findPage} into an {@link EmployeeSnapshot.Builder}; selected with
+ * {@code employee.cache.loader=paged}.
+ *
+ * <p>No single response holds more than {@code employee.cache.page-size} employees, so very large rosters load without
+ * one huge request, at the cost of one rate-limited call per page. Concurrent loads share one walk.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.cache.loader", havingValue = "paged")
+public class PagedRosterLoader implements RosterLoader {
+
+    private final EmployeeClient employeeClient;
+    private final int pageSize;
+    private final SingleFlight<String, EmployeeSnapshot> flight = new SingleFlight<>();
+
+    public PagedRosterLoader(
+            EmployeeClient employeeClient, @Value("${employee.cache.page-size:1000}") int pageSize) {
+        this.employeeClient = employeeClient;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public EmployeeSnapshot load() {
+        return flight.execute("findPage", this::fetch);
+    }
+
+    private EmployeeSnapshot fetch() {
+        final var builder = EmployeeSnapshot.builder();
+        String after = null;
+        int pages = 0;
+        do {
+            final var page = ApiResponses.unwrap(employeeClient.findPage(pageSize, after, null));
+            if (page.getEmployees() != null) {
+                page.getEmployees().forEach(builder::add);
+            }
+            after = page.getNext();
+            pages++;
+        } while (after != null);
+        final var snapshot = builder.build(Instant.now());
+        log.debug("Loaded {} employees in {} pages", snapshot.size(), pages);
+        return snapshot;
+    }
+}
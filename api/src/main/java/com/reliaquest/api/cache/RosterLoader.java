@@ -0,0 +1,18 @@
+package com.reliaquest.api.cache;
+
+/**
+ * Fetches a complete roster from the remote service for {@link EmployeeSnapshotCache}.
+ */
+@FunctionalInterface
+public interface RosterLoader {
+
+    EmployeeSnapshot load();
+
+    /**
+     * Refreshes {@code previous}. Loaders that can revalidate return a {@link EmployeeSnapshot#revalidated revalidated}
+     * copy of it when the remote roster has not changed; by default the roster is loaded again.
+     */
+    default EmployeeSnapshot reload(EmployeeSnapshot previous) {
+        return load();
+    }
+}
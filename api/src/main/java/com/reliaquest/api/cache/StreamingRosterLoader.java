@@ -0,0 +1,65 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.exception.RemoteServiceException;
+import com.reliaquest.api.repository.EmployeeClientCoalescer;
+import com.reliaquest.api.repository.EmployeeStreamReader;
+import com.reliaquest.api.utils.ApiResponses;
+import feign.Response;
+import java.io.IOException;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default {@link RosterLoader}: decodes the {@code findAll} response body as a token stream straight into an
+ * {@link EmployeeSnapshot.Builder}, skipping the intermediate {@code ApiResponse<List<Employee>>}. Concurrent loads
+ * share one request through the {@link EmployeeClientCoalescer}.
+ *
+ * <p>A reload sends the previous snapshot's {@code ETag} as {@code If-None-Match}; while the remote roster is unchanged
+ * the answer is a bodiless {@code 304} and the previous snapshot is kept, so nothing is transferred or parsed.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.cache.loader", havingValue = "streaming", matchIfMissing = true)
+public class StreamingRosterLoader implements RosterLoader {
+
+    private final EmployeeClientCoalescer employeeClientCoalescer;
+    private final EmployeeStreamReader employeeStreamReader;
+
+    @Override
+    public EmployeeSnapshot load() {
+        return employeeClientCoalescer.streamAll(null, response -> decode(response, null));
+    }
+
+    @Override
+    public EmployeeSnapshot reload(EmployeeSnapshot previous) {
+        final var etag = previous.getEtag();
+        return employeeClientCoalescer.streamAll(etag, response -> decode(response, etag != null ? previous : null));
+    }
+
+    private EmployeeSnapshot decode(Response response, EmployeeSnapshot previous) {
+        if (previous != null && response.status() == HttpStatus.NOT_MODIFIED.value()) {
+            return previous.revalidated(Instant.now());
+        }
+        if (response.status() != HttpStatus.OK.value() || response.body() == null) {
+            throw new RemoteServiceException(
+                    String.format("Remote service error: HTTP %d while loading employees", response.status()));
+        }
+        final var builder = EmployeeSnapshot.builder().etag(header(response, HttpHeaders.ETAG));
+        try {
+            ApiResponses.requireSuccess(
+                    employeeStreamReader.readEmployees(response.body().asInputStream(), builder::add));
+        } catch (IOException e) {
+            throw new RemoteServiceException("Failed to read employee roster: " + e.getMessage());
+        }
+        return builder.build(Instant.now());
+    }
+
+    private static String header(Response response, String name) {
+        final var values = response.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+}
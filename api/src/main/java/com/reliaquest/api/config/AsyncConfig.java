@@ -0,0 +1,69 @@
+package com.reliaquest.api.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Configuration
+public class AsyncConfig {
+
+    public static final String EMPLOYEE_TASK_EXECUTOR = "employeeTaskExecutor";
+    public static final String EMPLOYEE_HEDGE_EXECUTOR = "employeeHedgeExecutor";
+
+    /**
+     * Bounded pool running upstream calls for the async endpoints. When both the pool and its queue are full, new work
+     * is rejected rather than queued without limit, and the request fails fast with 503. Tasks run with the request
+     * attributes of the thread that submitted them, so a read answered from the snapshot fallback still marks its
+     * request as stale.
+     */
+    @Bean(name = EMPLOYEE_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor employeeTaskExecutor(
+            @Value("${employee.async.core-pool-size:8}") int corePoolSize,
+            @Value("${employee.async.max-pool-size:32}") int maxPoolSize,
+            @Value("${employee.async.queue-capacity:1000}") int queueCapacity) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("employee-async-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setTaskDecorator(AsyncConfig::withRequestAttributes);
+        return executor;
+    }
+
+    /**
+     * Runs the hedge requests of hedged reads, whose primaries run on the caller's thread. It has no queue: when every
+     * thread is busy a hedge is skipped.
+     */
+    @Bean(name = EMPLOYEE_HEDGE_EXECUTOR)
+    public ThreadPoolTaskExecutor employeeHedgeExecutor(
+            @Value("${employee.client.hedge.max-pool-size:64}") int maxPoolSize) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("employee-hedge-");
+        executor.setCorePoolSize(0);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    private static Runnable withRequestAttributes(Runnable task) {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return task;
+        }
+        return () -> {
+            final var previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                task.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.config;
+
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One circuit breaker per Feign client instead of one per method: every {@code EmployeeClient} method hits the same
+ * remote service and the same rate limit, so a failing {@code findAll} should also stop {@code create}.
+ *
+ * <p>The breaker is configured under {@code resilience4j.circuitbreaker.instances.employeeClient}.
+ */
+@Configuration
+public class CircuitBreakerConfig {
+
+    @Bean
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> feignClientName;
+    }
+}
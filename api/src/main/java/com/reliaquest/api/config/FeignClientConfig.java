@@ -0,0 +1,77 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.metrics.MeteredClient;
+import com.reliaquest.api.metrics.MeteredRetryer;
+import com.reliaquest.api.ratelimit.AdaptiveRateLimiter;
+import com.reliaquest.api.ratelimit.RateLimitingClient;
+import com.reliaquest.api.repository.EmployeeClientFallbackFactory;
+import com.reliaquest.api.repository.MethodTimeoutClient;
+import feign.Client;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import java.time.Duration;
+import java.util.Map;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the {@code employeeClient} Feign context.
+ *
+ * @implNote Deliberately not annotated with {@code @Configuration}: it is only registered through
+ * {@code @FeignClient(configuration = ...)}, so its beans stay inside the Feign client's own application context.
+ */
+public class FeignClientConfig {
+
+    /**
+     * Sends requests through the pooled Apache HttpClient 5 that Spring Cloud OpenFeign configures from
+     * {@code spring.cloud.openfeign.httpclient.*}: kept-alive connections, a per-route connection cap and transparent
+     * gzip/deflate response decompression. Setting {@code spring.cloud.openfeign.httpclient.hc5.enabled=false} falls
+     * back to the JDK's {@code HttpURLConnection}. Read timeouts can be overridden per method under
+     * {@code employee.client.read-timeouts}.
+     */
+    @Bean
+    public Client feignClient(
+            AdaptiveRateLimiter rateLimiter,
+            EmployeeClientMetrics employeeClientMetrics,
+            ObjectProvider<CloseableHttpClient> httpClient,
+            Environment environment) {
+        final var pooled = httpClient.getIfAvailable();
+        final Client transport = pooled != null ? new ApacheHttp5Client(pooled) : new Client.Default(null, null);
+        final var readTimeouts = Binder.get(environment)
+                .bind("employee.client.read-timeouts", Bindable.mapOf(String.class, Duration.class))
+                .orElse(Map.of());
+        return new MeteredClient(
+                new MethodTimeoutClient(new RateLimitingClient(transport, rateLimiter), readTimeouts),
+                employeeClientMetrics);
+    }
+
+    /**
+     * Retries only briefly; throttling is handled by the {@link AdaptiveRateLimiter}, which fails fast instead of
+     * parking the calling thread for the server's whole back-off window.
+     */
+    @Bean
+    public Retryer feignRetryer(
+            @Value("${employee.client.retry.period:100}") long period,
+            @Value("${employee.client.retry.max-period:1000}") long maxPeriod,
+            @Value("${employee.client.retry.max-attempts:2}") int maxAttempts,
+            EmployeeClientMetrics employeeClientMetrics) {
+        return new MeteredRetryer(new Retryer.Default(period, maxPeriod, maxAttempts), employeeClientMetrics);
+    }
+
+    /**
+     * Defined here rather than as a component so the fallback is not another {@code EmployeeClient} candidate in the
+     * application context.
+     */
+    @Bean
+    public EmployeeClientFallbackFactory employeeClientFallbackFactory(
+            ObjectProvider<EmployeeSnapshotCache> employeeSnapshotCache, EmployeeClientMetrics employeeClientMetrics) {
+        return new EmployeeClientFallbackFactory(employeeSnapshotCache, employeeClientMetrics);
+    }
+}
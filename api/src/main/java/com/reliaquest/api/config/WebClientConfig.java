@@ -0,0 +1,77 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.metrics.MeteredExchangeFilter;
+import com.reliaquest.api.ratelimit.AdaptiveRateLimiter;
+import com.reliaquest.api.ratelimit.RateLimitingExchangeFilter;
+import com.reliaquest.api.repository.CircuitBreakingEmployeeClient;
+import com.reliaquest.api.repository.EmployeeClient;
+import com.reliaquest.api.repository.EmployeeClientFallbackFactory;
+import com.reliaquest.api.repository.WebClientEmployeeClient;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Wires {@link WebClientEmployeeClient} as the {@link EmployeeClient} used by the service when
+ * {@code employee.client.transport=webclient}; otherwise the Feign client is the only candidate.
+ *
+ * <p>Like the Feign client, it runs behind the {@code employeeClient} circuit breaker with the snapshot fallback.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.client.transport", havingValue = "webclient")
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeConnectionProvider(
+            @Value("${employee.client.webclient.max-connections:50}") int maxConnections,
+            @Value("${employee.client.webclient.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${employee.client.webclient.max-idle-time:30s}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("employee-client")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public EmployeeClient webClientEmployeeClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider employeeConnectionProvider,
+            AdaptiveRateLimiter rateLimiter,
+            EmployeeClientMetrics employeeClientMetrics,
+            CircuitBreakerFactory<?, ?> circuitBreakerFactory,
+            ObjectProvider<EmployeeSnapshotCache> employeeSnapshotCache,
+            @Value("${employee.service.base-url:http://localhost:8112/api/v1/employee}") String baseUrl,
+            @Value("${employee.client.webclient.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${employee.client.webclient.read-timeout:5s}") Duration readTimeout) {
+        final var httpClient = HttpClient.create(employeeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .compress(true)
+                .keepAlive(true);
+        final var webClient = webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new MeteredExchangeFilter(employeeClientMetrics))
+                .filter(new RateLimitingExchangeFilter(rateLimiter))
+                .build();
+        return new CircuitBreakingEmployeeClient(
+                new WebClientEmployeeClient(webClient, connectTimeout.plus(readTimeout)),
+                // The breaker the Feign client uses, see CircuitBreakerConfig
+                circuitBreakerFactory.create("employeeClient"),
+                new EmployeeClientFallbackFactory(employeeSnapshotCache, employeeClientMetrics));
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.model.DTO.ApiResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+public class EmployeeControllerAdvice {
+
+    @Value("${resilience4j.circuitbreaker.instances.employeeClient.wait-duration-in-open-state:10s}")
+    private Duration circuitOpenDuration;
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleResourceNotFound(ResourceNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleRateLimitExceeded(RateLimitExceededException ex) {
+        log.debug("Rejected request to protect the remote request budget: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(
+                        HttpHeaders.RETRY_AFTER,
+                        String.valueOf(Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000)))
+                .body(new ApiResponse<>(ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(CallNotPermittedException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleCircuitOpen(CallNotPermittedException ex) {
+        log.debug("Employee service circuit is open: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, circuitOpenDuration.toSeconds())))
+                .body(new ApiResponse<>("Employee service is unavailable, please retry later", null));
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleTaskRejected(TaskRejectedException ex) {
+        log.warn("Employee task executor is saturated: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiResponse<>("Too many requests in flight, please retry", null));
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.controller;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Non-blocking form of {@link IEmployeeController}: the same routes, inputs and payloads, each answered through a
+ * {@link CompletableFuture} so the servlet thread is released while the work runs elsewhere.
+ *
+ * @param <Entity> object representation of an Employee
+ * @param <Input> object representation of a request body for creating Employee(s)
+ */
+public interface IAsyncEmployeeController<Entity, Input> {
+
+    @GetMapping()
+    CompletableFuture<ResponseEntity<List<Entity>>> getAllEmployees();
+
+    @GetMapping("/search/{searchString}")
+    CompletableFuture<ResponseEntity<List<Entity>>> getEmployeesByNameSearch(@PathVariable String searchString);
+
+    @GetMapping("/{id}")
+    CompletableFuture<ResponseEntity<Entity>> getEmployeeById(@PathVariable String id);
+
+    @GetMapping("/highestSalary")
+    CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees();
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames();
+
+    @PostMapping()
+    CompletableFuture<ResponseEntity<Entity>> createEmployee(@RequestBody Input employeeInput);
+
+    @DeleteMapping("/{id}")
+    CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id);
+}
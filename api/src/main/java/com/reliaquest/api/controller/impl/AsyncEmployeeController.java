@@ -0,0 +1,94 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.controller.IAsyncEmployeeController;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.model.DTO.BatchItemResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.request.EmployeeRequest;
+import com.reliaquest.api.service.EmplyeeService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Non-blocking twin of {@link EmployeeController}, enabled with {@code employee.api.async=true}.
+ *
+ * <p>Implements {@link IAsyncEmployeeController}, the same routes and payloads as {@code IEmployeeController}, but
+ * hands each request off as a {@link CompletableFuture}, so the servlet thread is released while the upstream call
+ * runs on the bounded employee task executor. Request bodies are validated the same way in both controllers.
+ */
+@RestController
+@RequestMapping("/api/employee")
+@Validated
+@ConditionalOnProperty(name = "employee.api.async", havingValue = "true")
+public class AsyncEmployeeController implements IAsyncEmployeeController<Employee, EmployeeRequest> {
+
+    @Autowired
+    private EmplyeeService emplyeeService;
+
+    @Override
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return emplyeeService.getAllEmployeesAsync().thenApply(ResponseEntity::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        return emplyeeService
+                .getEmployeesByNameSearchAsync(searchString, false, NameSearchIndex.UNLIMITED)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @RequestParam("name") String searchString,
+            @RequestParam(value = "ignoreCase", defaultValue = "false") boolean ignoreCase,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return emplyeeService
+                .getEmployeesByNameSearchAsync(
+                        searchString, ignoreCase, limit == null ? NameSearchIndex.UNLIMITED : limit)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return emplyeeService.getEmployeeByIdAsync(id).thenApply(ResponseEntity::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return emplyeeService.getHighestSalaryOfEmployeesAsync().thenApply(ResponseEntity::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return emplyeeService.getTopTenHighestEarningEmployeeNamesAsync().thenApply(ResponseEntity::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(
+            @Validated @RequestBody EmployeeRequest employeeInput) {
+        return emplyeeService.createEmployeeAsync(employeeInput).thenApply(ResponseEntity::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return emplyeeService.deleteByIdAsync(id).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<List<BatchItemResult<Employee>>>> createEmployees(
+            @RequestBody List<EmployeeRequest> employeeInputs) {
+        return emplyeeService.createEmployeesAsync(employeeInputs).thenApply(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/batch")
+    public CompletableFuture<ResponseEntity<List<BatchItemResult<String>>>> deleteEmployeesById(
+            @RequestBody List<String> ids) {
+        return emplyeeService.deleteEmployeesByIdAsync(ids).thenApply(ResponseEntity::ok);
+    }
+}
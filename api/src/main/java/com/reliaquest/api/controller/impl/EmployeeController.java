@@ -1,6 +1,8 @@
 package com.reliaquest.api.controller.impl;
 
 import com.reliaquest.api.controller.IEmployeeController;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.model.DTO.BatchItemResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.request.EmployeeRequest;
 import com.reliaquest.api.service.EmplyeeService;
@@ -8,11 +10,16 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import jakarta.validation.constraints.NotNull;
 
@@ -20,6 +27,7 @@ import jakarta.validation.constraints.NotNull;
 @RestController
 @RequestMapping("/api/employee")
 @Validated
+@ConditionalOnProperty(name = "employee.api.async", havingValue = "false", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, EmployeeRequest> {
 
     @Autowired
@@ -35,6 +43,15 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return ResponseEntity.ok(emplyeeService.getEmployeesByNameSearch(searchString));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<Employee>> getEmployeesByNameSearch(
+            @RequestParam("name") String searchString,
+            @RequestParam(value = "ignoreCase", defaultValue = "false") boolean ignoreCase,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(emplyeeService.getEmployeesByNameSearch(
+                searchString, ignoreCase, limit == null ? NameSearchIndex.UNLIMITED : limit));
+    }
+
     @Override
     public ResponseEntity<Employee> getEmployeeById(
             @PathVariable String id) {
@@ -52,7 +69,7 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     }
 
     @Override
-    public ResponseEntity<Employee> createEmployee(@RequestBody EmployeeRequest employeeInput) {
+    public ResponseEntity<Employee> createEmployee(@Validated @RequestBody EmployeeRequest employeeInput) {
 
         return ResponseEntity.ok(emplyeeService.createEmployee(employeeInput));
     }
@@ -61,4 +78,15 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<String> deleteEmployeeById( @PathVariable String id) {
         return ResponseEntity.ok(emplyeeService.deleteById(id));
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<Employee>>> createEmployees(
+            @RequestBody List<EmployeeRequest> employeeInputs) {
+        return ResponseEntity.ok(emplyeeService.createEmployees(employeeInputs));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<String>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(emplyeeService.deleteEmployeesById(ids));
+    }
 }
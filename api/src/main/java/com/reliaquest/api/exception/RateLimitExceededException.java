@@ -0,0 +1,18 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown instead of calling the remote service when the call would exceed its request budget.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
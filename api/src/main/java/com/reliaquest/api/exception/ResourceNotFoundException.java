@@ -0,0 +1,21 @@
+package com.reliaquest.api.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when the remote service has no resource matching the requested key.
+ */
+@Getter
+public class ResourceNotFoundException extends RuntimeException {
+
+    private final String resource;
+    private final String field;
+    private final Object value;
+
+    public ResourceNotFoundException(String resource, String field, Object value) {
+        super(String.format("%s not found with %s: %s", resource, field, value));
+        this.resource = resource;
+        this.field = field;
+        this.value = value;
+    }
+}
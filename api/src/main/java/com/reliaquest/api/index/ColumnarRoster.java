@@ -0,0 +1,546 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.DTO.EmployeeChange;
+import com.reliaquest.api.model.Employee;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Column-oriented, off-heap copy of one roster snapshot.
+ *
+ * <p>Each employee is a row spread over direct buffers: the ID as two longs, salary, age and a title code as ints,
+ * and name and email as UTF-8 bytes in shared byte columns addressed by offset. Titles repeat heavily, so they are
+ * dictionary-encoded. An open-addressing table of rows, also off-heap, resolves IDs. The heap holds the buffers, the
+ * title dictionary and the top {@value SalaryIndex#TOP_K} earners, but no object per employee.
+ *
+ * <p>Salary aggregates are computed when the roster is built. Name searches scan the name bytes and only decode rows
+ * that cannot be compared as ASCII. {@link Employee} objects are only created for rows that are returned.
+ *
+ * <p>The roster is immutable. {@link #withChanges} shares the columns with the copy it returns and keeps the changes in
+ * a small on-heap overlay of replaced, removed and appended employees that reads consult. Only once the overlay
+ * outgrows {@value #MIN_OVERLAY} entries, or one per {@value #OVERLAY_RATIO} rows, are the changes merged into newly
+ * allocated columns, which also drops titles no row uses any more from the dictionary.
+ */
+public final class ColumnarRoster {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_NAME = 1;
+    private static final int NULL_EMAIL = 1 << 1;
+    private static final int NON_ASCII_NAME = 1 << 2;
+    private static final int MIN_OVERLAY = 1024;
+    private static final int OVERLAY_RATIO = 64;
+
+    // Rows in the columns, including those the overlay removes or replaces
+    private final int rows;
+    private final ByteBuffer ids;
+    private final IntBuffer salaries;
+    private final IntBuffer ages;
+    private final IntBuffer titleCodes;
+    private final String[] titles;
+    private final ByteBuffer flags;
+    private final IntBuffer nameOffsets;
+    private final ByteBuffer names;
+    private final IntBuffer emailOffsets;
+    private final ByteBuffer emails;
+    private final IntBuffer idTable;
+
+    // The overlay: replacements by row, removed rows and employees appended after the last row, all empty once merged
+    private final Map<Integer, Employee> replacedRows;
+    private final Set<Integer> removedRows;
+    private final Map<UUID, Employee> appended;
+    private final List<Employee> appendedEmployees;
+    private final int size;
+
+    @Getter
+    private final int maxSalary;
+
+    @Getter
+    private final List<String> topEarnerNames;
+
+    private ColumnarRoster(Writer writer) {
+        this.rows = writer.size;
+        this.ids = writer.ids.flip().asReadOnlyBuffer();
+        this.salaries = writer.salaries.flip().asReadOnlyBuffer();
+        this.ages = writer.ages.flip().asReadOnlyBuffer();
+        this.titleCodes = writer.titleCodes.flip().asReadOnlyBuffer();
+        this.titles = writer.titles.toArray(new String[0]);
+        this.flags = writer.flags.flip().asReadOnlyBuffer();
+        this.nameOffsets = writer.nameOffsets.flip().asReadOnlyBuffer();
+        this.names = writer.names.flip().asReadOnlyBuffer();
+        this.emailOffsets = writer.emailOffsets.flip().asReadOnlyBuffer();
+        this.emails = writer.emails.flip().asReadOnlyBuffer();
+        this.idTable = buildIdTable();
+        this.replacedRows = Map.of();
+        this.removedRows = Set.of();
+        this.appended = Map.of();
+        this.appendedEmployees = List.of();
+        this.size = rows;
+
+        final int[] top = selectTop();
+        this.maxSalary = top.length == 0 ? 0 : salaryAt(top[0]);
+        this.topEarnerNames = namesAt(top);
+    }
+
+    private ColumnarRoster(
+            ColumnarRoster base,
+            Map<Integer, Employee> replacedRows,
+            Set<Integer> removedRows,
+            Map<UUID, Employee> appended) {
+        this.rows = base.rows;
+        this.ids = base.ids;
+        this.salaries = base.salaries;
+        this.ages = base.ages;
+        this.titleCodes = base.titleCodes;
+        this.titles = base.titles;
+        this.flags = base.flags;
+        this.nameOffsets = base.nameOffsets;
+        this.names = base.names;
+        this.emailOffsets = base.emailOffsets;
+        this.emails = base.emails;
+        this.idTable = base.idTable;
+        this.replacedRows = replacedRows;
+        this.removedRows = removedRows;
+        this.appended = appended;
+        this.appendedEmployees = List.copyOf(appended.values());
+        this.size = rows - removedRows.size() + appended.size();
+
+        final int[] top = selectTop();
+        this.maxSalary = top.length == 0 ? 0 : salaryAt(top[0]);
+        this.topEarnerNames = namesAt(top);
+    }
+
+    /**
+     * Employees without an ID can neither be looked up nor patched, so they are left out.
+     */
+    public static ColumnarRoster build(@NonNull List<Employee> employees) {
+        final var withIds = employees.stream()
+                .filter(employee -> employee != null && employee.getId() != null)
+                .toList();
+        final var writer = new Writer(withIds.size());
+        withIds.forEach(writer::add);
+        return new ColumnarRoster(writer);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Optional<Employee> findById(UUID id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        final var added = appended.get(id);
+        if (added != null) {
+            return Optional.of(added);
+        }
+        final int row = rowOf(id);
+        return row < 0 || isRemoved(row) ? Optional.empty() : Optional.of(employee(row));
+    }
+
+    /**
+     * @return every employee, materialized in roster order
+     */
+    public List<Employee> employees() {
+        final var employees = new ArrayList<Employee>(size);
+        for (int row = 0; row < rows; row++) {
+            if (!isRemoved(row)) {
+                employees.add(employee(row));
+            }
+        }
+        employees.addAll(appendedEmployees);
+        return Collections.unmodifiableList(employees);
+    }
+
+    /**
+     * Matches {@link NameSearchIndex#search}: a {@code null} name is treated as empty and results keep roster order.
+     *
+     * @param fragment the name fragment to look for
+     * @param ignoreCase whether matching should ignore case
+     * @param limit the maximum number of employees to return, or {@link NameSearchIndex#UNLIMITED}
+     * @return the employees whose name contains the fragment, in roster order
+     */
+    public List<Employee> search(@NonNull String fragment, boolean ignoreCase, int limit) {
+        final var matches = new ArrayList<Employee>();
+        if (limit <= 0) {
+            return matches;
+        }
+        final var needle = ignoreCase ? fragment.toLowerCase(Locale.ROOT) : fragment;
+        final var needleBytes = needle.getBytes(StandardCharsets.UTF_8);
+        final boolean asciiNeedle = needleBytes.length == needle.length();
+        for (int row = 0; row < rows && matches.size() < limit; row++) {
+            if (isRemoved(row)) {
+                continue;
+            }
+            final var replacement = replacement(row);
+            final boolean match;
+            if (replacement != null) {
+                match = nameContains(replacement, needle, ignoreCase);
+            } else if (!ignoreCase) {
+                // A valid UTF-8 needle can only match a valid UTF-8 name on character boundaries
+                match = containsBytes(row, needleBytes, false);
+            } else if ((flags.get(row) & NON_ASCII_NAME) == 0) {
+                match = asciiNeedle && containsBytes(row, needleBytes, true);
+            } else {
+                match = name(row).toLowerCase(Locale.ROOT).contains(needle);
+            }
+            if (match) {
+                matches.add(replacement != null ? replacement : employee(row));
+            }
+        }
+        for (final var employee : appendedEmployees) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            if (nameContains(employee, needle, ignoreCase)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Applies changes in order with the same outcome as applying them one by one to an insertion-ordered map: a
+     * replaced employee keeps its row, a new or re-created one is appended.
+     *
+     * @return a roster sharing these columns with the changes added to its overlay, or, once the overlay would outgrow
+     *     its limit, a roster with the changes merged into new columns
+     */
+    public ColumnarRoster withChanges(@NonNull List<EmployeeChange> changes) {
+        final var replaced = new HashMap<>(replacedRows);
+        final var removed = new HashSet<>(removedRows);
+        final var added = new LinkedHashMap<>(appended);
+        boolean changed = false;
+        for (final var change : changes) {
+            final var employee = change.getEmployee();
+            if (employee == null || employee.getId() == null) {
+                continue;
+            }
+            final int row = rowOf(employee.getId());
+            if (change.getType() == EmployeeChange.Type.DELETED) {
+                changed |= added.remove(employee.getId()) != null;
+                if (row >= 0) {
+                    replaced.remove(row);
+                    changed |= removed.add(row);
+                }
+            } else if (row >= 0 && !removed.contains(row)) {
+                replaced.put(row, employee);
+                changed = true;
+            } else {
+                added.put(employee.getId(), employee);
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return this;
+        }
+        if (replaced.size() + removed.size() + added.size() <= Math.max(MIN_OVERLAY, rows / OVERLAY_RATIO)) {
+            return new ColumnarRoster(this, replaced, removed, added);
+        }
+
+        final var writer = new Writer(rows - removed.size() + added.size());
+        for (int row = 0; row < rows; row++) {
+            if (removed.contains(row)) {
+                continue;
+            }
+            final var replacement = replaced.get(row);
+            if (replacement != null) {
+                writer.add(replacement);
+            } else {
+                writer.copy(this, row);
+            }
+        }
+        added.values().forEach(writer::add);
+        return new ColumnarRoster(writer);
+    }
+
+    private boolean isRemoved(int row) {
+        return !removedRows.isEmpty() && removedRows.contains(row);
+    }
+
+    private Employee replacement(int row) {
+        return replacedRows.isEmpty() ? null : replacedRows.get(row);
+    }
+
+    /**
+     * @return the employee at {@code row} as the overlay has it, or as stored in the columns
+     */
+    private Employee employee(int row) {
+        final var replacement = replacement(row);
+        return replacement != null ? replacement : stored(row);
+    }
+
+    private Employee stored(int row) {
+        final int title = titleCodes.get(row);
+        return Employee.builder()
+                .id(id(row))
+                .name(name(row))
+                .salary(nullable(salaries.get(row)))
+                .age(nullable(ages.get(row)))
+                .title(title < 0 ? null : titles[title])
+                .email((flags.get(row) & NULL_EMAIL) != 0 ? null : string(emails, emailOffsets, row))
+                .build();
+    }
+
+    private UUID id(int row) {
+        return new UUID(ids.getLong(row * 16), ids.getLong(row * 16 + 8));
+    }
+
+    private String name(int row) {
+        return (flags.get(row) & NULL_NAME) != 0 ? null : string(names, nameOffsets, row);
+    }
+
+    private int salaryOf(int row) {
+        final int salary = salaries.get(row);
+        return salary == NULL_INT ? 0 : salary;
+    }
+
+    /**
+     * Positions address rows first and appended employees after them, in roster order.
+     */
+    private int salaryAt(int position) {
+        final var employee = position < rows ? replacement(position) : appendedEmployees.get(position - rows);
+        if (employee == null) {
+            return salaryOf(position);
+        }
+        return employee.getSalary() == null ? 0 : employee.getSalary();
+    }
+
+    private List<String> namesAt(int[] positions) {
+        final var names = new String[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            final int position = positions[i];
+            final var employee = position < rows ? replacement(position) : appendedEmployees.get(position - rows);
+            names[i] = employee != null ? employee.getName() : name(position);
+        }
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    private static boolean nameContains(Employee employee, String needle, boolean ignoreCase) {
+        final var name = employee.getName() == null ? "" : employee.getName();
+        return (ignoreCase ? name.toLowerCase(Locale.ROOT) : name).contains(needle);
+    }
+
+    private boolean containsBytes(int row, byte[] needle, boolean lowerCaseAscii) {
+        final int start = nameOffsets.get(row);
+        final int last = nameOffsets.get(row + 1) - needle.length;
+        outer:
+        for (int from = start; from <= last; from++) {
+            for (int i = 0; i < needle.length; i++) {
+                byte value = names.get(from + i);
+                if (lowerCaseAscii && value >= 'A' && value <= 'Z') {
+                    value += 'a' - 'A';
+                }
+                if (value != needle[i]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private int rowOf(UUID id) {
+        final int mask = idTable.capacity() - 1;
+        final long most = id.getMostSignificantBits();
+        final long least = id.getLeastSignificantBits();
+        for (int slot = hash(most, least) & mask; ; slot = (slot + 1) & mask) {
+            final int row = idTable.get(slot) - 1;
+            if (row < 0) {
+                return -1;
+            }
+            if (ids.getLong(row * 16) == most && ids.getLong(row * 16 + 8) == least) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * Maps each ID to its row plus one, zero marking an empty slot; with duplicate IDs the last row wins, like a map.
+     */
+    private IntBuffer buildIdTable() {
+        final int capacity = Integer.highestOneBit(Math.max(2, rows) * 2 - 1) << 1;
+        final var table = ByteBuffer.allocateDirect(capacity * Integer.BYTES).asIntBuffer();
+        final int mask = capacity - 1;
+        for (int row = 0; row < rows; row++) {
+            final long most = ids.getLong(row * 16);
+            final long least = ids.getLong(row * 16 + 8);
+            int slot = hash(most, least) & mask;
+            while (true) {
+                final int existing = table.get(slot) - 1;
+                if (existing < 0
+                        || (ids.getLong(existing * 16) == most && ids.getLong(existing * 16 + 8) == least)) {
+                    table.put(slot, row + 1);
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        return table.asReadOnlyBuffer();
+    }
+
+    /**
+     * Keeps the best {@value SalaryIndex#TOP_K} positions in a small sorted array; ties keep the earlier position
+     * first, matching {@link SalaryIndex}.
+     */
+    private int[] selectTop() {
+        final var top = new int[Math.min(SalaryIndex.TOP_K, size)];
+        int count = 0;
+        for (int position = 0; position < rows + appendedEmployees.size(); position++) {
+            if (position < rows && isRemoved(position)) {
+                continue;
+            }
+            final int salary = salaryAt(position);
+            if (count == top.length && salary <= salaryAt(top[count - 1])) {
+                continue;
+            }
+            int slot = count == top.length ? count - 1 : count++;
+            while (slot > 0 && salaryAt(top[slot - 1]) < salary) {
+                top[slot] = top[slot - 1];
+                slot--;
+            }
+            top[slot] = position;
+        }
+        return top;
+    }
+
+    private static int hash(long most, long least) {
+        final long mixed = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private static Integer nullable(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    private static String string(ByteBuffer bytes, IntBuffer offsets, int row) {
+        final int start = offsets.get(row);
+        final var value = new byte[offsets.get(row + 1) - start];
+        bytes.get(start, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends rows to freshly allocated direct columns; the string columns grow as needed. The title dictionary starts
+     * empty, so it only holds the titles of the rows written.
+     */
+    private static final class Writer {
+        private final ByteBuffer ids;
+        private final IntBuffer salaries;
+        private final IntBuffer ages;
+        private final IntBuffer titleCodes;
+        private final List<String> titles = new ArrayList<>();
+        private final Map<String, Integer> titleCodesByTitle = new HashMap<>();
+        private final ByteBuffer flags;
+        private final IntBuffer nameOffsets;
+        private final IntBuffer emailOffsets;
+        private ByteBuffer names;
+        private ByteBuffer emails;
+        private int size;
+
+        Writer(int capacity) {
+            this.ids = ByteBuffer.allocateDirect(capacity * 16);
+            this.salaries = ints(capacity);
+            this.ages = ints(capacity);
+            this.titleCodes = ints(capacity);
+            this.flags = ByteBuffer.allocateDirect(capacity);
+            this.nameOffsets = ints(capacity + 1).put(0);
+            this.emailOffsets = ints(capacity + 1).put(0);
+            this.names = ByteBuffer.allocateDirect(Math.max(64, capacity * 16));
+            this.emails = ByteBuffer.allocateDirect(Math.max(64, capacity * 24));
+        }
+
+        void add(Employee employee) {
+            final var id = employee.getId();
+            ids.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+            salaries.put(employee.getSalary() != null ? employee.getSalary() : NULL_INT);
+            ages.put(employee.getAge() != null ? employee.getAge() : NULL_INT);
+            titleCodes.put(titleCode(employee.getTitle()));
+
+            int rowFlags = 0;
+            final var name = employee.getName();
+            if (name == null) {
+                rowFlags |= NULL_NAME;
+            } else {
+                final var bytes = name.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length != name.length()) {
+                    rowFlags |= NON_ASCII_NAME;
+                }
+                names = append(names, bytes);
+            }
+            if (employee.getEmail() == null) {
+                rowFlags |= NULL_EMAIL;
+            } else {
+                emails = append(emails, employee.getEmail().getBytes(StandardCharsets.UTF_8));
+            }
+            flags.put((byte) rowFlags);
+            nameOffsets.put(names.position());
+            emailOffsets.put(emails.position());
+            size++;
+        }
+
+        /**
+         * Copies a stored row column to column without materializing it, re-encoding its title in this writer's
+         * dictionary.
+         */
+        void copy(ColumnarRoster source, int row) {
+            ids.putLong(source.ids.getLong(row * 16)).putLong(source.ids.getLong(row * 16 + 8));
+            salaries.put(source.salaries.get(row));
+            ages.put(source.ages.get(row));
+            final int title = source.titleCodes.get(row);
+            titleCodes.put(titleCode(title < 0 ? null : source.titles[title]));
+            flags.put(source.flags.get(row));
+            names = append(names, source.names, source.nameOffsets.get(row), source.nameOffsets.get(row + 1));
+            emails = append(emails, source.emails, source.emailOffsets.get(row), source.emailOffsets.get(row + 1));
+            nameOffsets.put(names.position());
+            emailOffsets.put(emails.position());
+            size++;
+        }
+
+        private int titleCode(String title) {
+            if (title == null) {
+                return -1;
+            }
+            return titleCodesByTitle.computeIfAbsent(title, added -> {
+                titles.add(added);
+                return titles.size() - 1;
+            });
+        }
+
+        private static IntBuffer ints(int capacity) {
+            return ByteBuffer.allocateDirect(capacity * Integer.BYTES).asIntBuffer();
+        }
+
+        private static ByteBuffer append(ByteBuffer target, byte[] bytes) {
+            final var buffer = ensureRemaining(target, bytes.length);
+            return buffer.put(bytes);
+        }
+
+        private static ByteBuffer append(ByteBuffer target, ByteBuffer source, int from, int to) {
+            final var buffer = ensureRemaining(target, to - from);
+            return buffer.put(source.slice(from, to - from));
+        }
+
+        private static ByteBuffer ensureRemaining(ByteBuffer buffer, int length) {
+            if (buffer.remaining() >= length) {
+                return buffer;
+            }
+            final var grown = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + length));
+            return grown.put(buffer.flip());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Trigram inverted index over the employee names of one roster snapshot.
+ *
+ * <p>Every lower-cased name is split into overlapping three-character grams, and each gram maps to the ascending rows
+ * whose name contains it. A search for a fragment of three or more characters only verifies the rows of the fragment's
+ * rarest gram, so its cost follows the selectivity of the query rather than the size of the roster. Shorter fragments
+ * carry too little information to index and fall back to a scan. Results keep roster order.
+ */
+public final class NameSearchIndex {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final int GRAM = 3;
+    private static final int[] NO_ROWS = new int[0];
+
+    private final Employee[] rows;
+    private final String[] names;
+    private final String[] lowerCaseNames;
+    private final Map<Long, int[]> postings;
+
+    private NameSearchIndex(Employee[] rows, String[] names, String[] lowerCaseNames, Map<Long, int[]> postings) {
+        this.rows = rows;
+        this.names = names;
+        this.lowerCaseNames = lowerCaseNames;
+        this.postings = postings;
+    }
+
+    public static NameSearchIndex build(@NonNull List<Employee> employees) {
+        final var rows = employees.toArray(new Employee[0]);
+        final var names = new String[rows.length];
+        final var lowerCaseNames = new String[rows.length];
+        final var builders = new HashMap<Long, RowList>();
+        for (int row = 0; row < rows.length; row++) {
+            names[row] = rows[row].getName() == null ? "" : rows[row].getName();
+            lowerCaseNames[row] = names[row].toLowerCase(Locale.ROOT);
+            final var name = lowerCaseNames[row];
+            for (int start = 0; start + GRAM <= name.length(); start++) {
+                builders.computeIfAbsent(gram(name, start), ignored -> new RowList())
+                        .add(row);
+            }
+        }
+
+        final var postings = new HashMap<Long, int[]>(builders.size() * 4 / 3 + 1);
+        builders.forEach((gram, rowList) -> postings.put(gram, rowList.toArray()));
+        return new NameSearchIndex(rows, names, lowerCaseNames, postings);
+    }
+
+    /**
+     * @param fragment the name fragment to look for
+     * @param ignoreCase whether matching should ignore case
+     * @param limit the maximum number of employees to return, or {@link #UNLIMITED}
+     * @return the employees whose name contains the fragment, in roster order
+     */
+    public List<Employee> search(@NonNull String fragment, boolean ignoreCase, int limit) {
+        final var needle = ignoreCase ? fragment.toLowerCase(Locale.ROOT) : fragment;
+        final var haystack = ignoreCase ? lowerCaseNames : names;
+        final var matches = new ArrayList<Employee>();
+        if (limit <= 0) {
+            return matches;
+        }
+
+        if (needle.length() < GRAM) {
+            for (int row = 0; row < rows.length && matches.size() < limit; row++) {
+                if (haystack[row].contains(needle)) {
+                    matches.add(rows[row]);
+                }
+            }
+            return matches;
+        }
+
+        for (final int row : rarestPosting(fragment.toLowerCase(Locale.ROOT))) {
+            if (haystack[row].contains(needle)) {
+                matches.add(rows[row]);
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private int[] rarestPosting(String lowerCaseFragment) {
+        int[] rarest = null;
+        for (int start = 0; start + GRAM <= lowerCaseFragment.length(); start++) {
+            final var posting = postings.get(gram(lowerCaseFragment, start));
+            if (posting == null) {
+                return NO_ROWS;
+            }
+            if (rarest == null || posting.length < rarest.length) {
+                rarest = posting;
+            }
+        }
+        return rarest;
+    }
+
+    private static long gram(String value, int start) {
+        return ((long) value.charAt(start) << 32) | ((long) value.charAt(start + 1) << 16) | value.charAt(start + 2);
+    }
+
+    /**
+     * Growable ascending row list; a row is recorded once even if its name repeats the gram.
+     */
+    private static final class RowList {
+        private int[] rows = new int[4];
+        private int size;
+
+        void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Salary aggregates over one roster snapshot: a primitive salary column, the rows of the top {@value #TOP_K} earners
+ * and the maximum salary.
+ *
+ * <p>Aggregates are computed when the index is built, so answering {@code highestSalary} or
+ * {@code topTenHighestEarningEmployeeNames} costs a field read. The index is immutable; {@link #append} and
+ * {@link #remove} return a patched copy and only rescan the column when an employee leaves the top {@value #TOP_K}.
+ * Ties are broken by roster order, matching a stable descending sort.
+ */
+public final class SalaryIndex {
+
+    public static final int TOP_K = 10;
+
+    private final Employee[] rows;
+    private final int[] salaries;
+    private final int[] topRows;
+
+    @Getter
+    private final int maxSalary;
+
+    @Getter
+    private final List<String> topEarnerNames;
+
+    private SalaryIndex(Employee[] rows, int[] salaries, int[] topRows) {
+        this.rows = rows;
+        this.salaries = salaries;
+        this.topRows = topRows;
+        this.maxSalary = topRows.length == 0 ? 0 : salaries[topRows[0]];
+
+        final var names = new String[topRows.length];
+        for (int i = 0; i < topRows.length; i++) {
+            names[i] = rows[topRows[i]].getName();
+        }
+        this.topEarnerNames = Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    public static SalaryIndex build(@NonNull List<Employee> employees) {
+        final var rows = employees.toArray(new Employee[0]);
+        final var salaries = new int[rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            salaries[row] = salaryOf(rows[row]);
+        }
+        return new SalaryIndex(rows, salaries, selectTop(salaries, rows.length));
+    }
+
+    /**
+     * @return a copy of this index with the employee added as the last row
+     */
+    public SalaryIndex append(@NonNull Employee employee) {
+        final int row = rows.length;
+        final var newRows = Arrays.copyOf(rows, row + 1);
+        final var newSalaries = Arrays.copyOf(salaries, row + 1);
+        newRows[row] = employee;
+        newSalaries[row] = salaryOf(employee);
+        return new SalaryIndex(newRows, newSalaries, insertTop(newSalaries, topRows, row));
+    }
+
+    /**
+     * @return a copy of this index without the employee, or this index if it is not present
+     */
+    public SalaryIndex remove(@NonNull Employee employee) {
+        final int removed = indexOf(employee);
+        if (removed < 0) {
+            return this;
+        }
+        final int size = rows.length - 1;
+        final var newRows = new Employee[size];
+        final var newSalaries = new int[size];
+        System.arraycopy(rows, 0, newRows, 0, removed);
+        System.arraycopy(rows, removed + 1, newRows, removed, size - removed);
+        System.arraycopy(salaries, 0, newSalaries, 0, removed);
+        System.arraycopy(salaries, removed + 1, newSalaries, removed, size - removed);
+
+        if (Arrays.stream(topRows).anyMatch(row -> row == removed)) {
+            return new SalaryIndex(newRows, newSalaries, selectTop(newSalaries, size));
+        }
+        final var newTopRows = new int[topRows.length];
+        for (int i = 0; i < topRows.length; i++) {
+            newTopRows[i] = topRows[i] > removed ? topRows[i] - 1 : topRows[i];
+        }
+        return new SalaryIndex(newRows, newSalaries, newTopRows);
+    }
+
+    private int indexOf(Employee employee) {
+        for (int row = 0; row < rows.length; row++) {
+            if (rows[row] == employee || rows[row].getId().equals(employee.getId())) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private static int salaryOf(Employee employee) {
+        return employee.getSalary() == null ? 0 : employee.getSalary();
+    }
+
+    /**
+     * Selects the best {@value #TOP_K} rows with a bounded min-heap whose root is the worst row kept so far, then
+     * heap-sorts them best first.
+     */
+    private static int[] selectTop(int[] salaries, int size) {
+        final int capacity = Math.min(TOP_K, size);
+        final var heap = new int[capacity];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (count < capacity) {
+                heap[count] = row;
+                siftUp(heap, count++, salaries);
+            } else if (worse(heap[0], row, salaries)) {
+                heap[0] = row;
+                siftDown(heap, count, salaries);
+            }
+        }
+        for (int end = count - 1; end > 0; end--) {
+            swap(heap, 0, end);
+            siftDown(heap, end, salaries);
+        }
+        return heap;
+    }
+
+    private static int[] insertTop(int[] salaries, int[] topRows, int row) {
+        final boolean full = topRows.length == TOP_K;
+        if (full && !worse(topRows[TOP_K - 1], row, salaries)) {
+            return topRows;
+        }
+        int position = 0;
+        while (position < topRows.length && !worse(topRows[position], row, salaries)) {
+            position++;
+        }
+        final var newTopRows = new int[full ? TOP_K : topRows.length + 1];
+        System.arraycopy(topRows, 0, newTopRows, 0, position);
+        newTopRows[position] = row;
+        System.arraycopy(topRows, position, newTopRows, position + 1, newTopRows.length - position - 1);
+        return newTopRows;
+    }
+
+    /**
+     * @return whether row {@code a} ranks below row {@code b}: a lower salary, or an equal salary later in the roster
+     */
+    private static boolean worse(int a, int b, int[] salaries) {
+        return salaries[a] < salaries[b] || (salaries[a] == salaries[b] && a > b);
+    }
+
+    private static void siftUp(int[] heap, int index, int[] salaries) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (!worse(heap[index], heap[parent], salaries)) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, int[] salaries) {
+        int index = 0;
+        while (true) {
+            final int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            final int right = left + 1;
+            final int child = right < size && worse(heap[right], heap[left], salaries) ? right : left;
+            if (!worse(heap[child], heap[index], salaries)) {
+                return;
+            }
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        final int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
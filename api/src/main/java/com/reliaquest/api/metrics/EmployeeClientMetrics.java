@@ -0,0 +1,108 @@
+package com.reliaquest.api.metrics;
+
+import feign.Request;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters shared by every {@code EmployeeClient} transport.
+ *
+ * <ul>
+ *   <li>{@code employee.client.requests}: timer per client method and {@link Outcome}
+ *   <li>{@code employee.client.retries}: retry attempts per client method
+ *   <li>{@code employee.client.retry.backoff}: time the retryer slept before each retry
+ *   <li>{@code employee.client.retries.exhausted}: calls that failed after their last attempt
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeClientMetrics {
+
+    /**
+     * Request attribute naming the {@code EmployeeClient} method on transports that cannot infer it.
+     */
+    public static final String METHOD_ATTRIBUTE = EmployeeClientMetrics.class.getName() + ".method";
+
+    private static final String UNKNOWN_METHOD = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String method, Outcome outcome, long durationNanos) {
+        Timer.builder("employee.client.requests")
+                .description("Calls to the remote employee service")
+                .tag("method", method)
+                .tag("outcome", outcome.getTag())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetry(String method, long backoffNanos) {
+        Counter.builder("employee.client.retries")
+                .description("Retry attempts after a transient failure")
+                .tag("method", method)
+                .register(meterRegistry)
+                .increment();
+        Timer.builder("employee.client.retry.backoff")
+                .description("Time spent sleeping in the retryer before a retry")
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(backoffNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetriesExhausted(String method) {
+        Counter.builder("employee.client.retries.exhausted")
+                .description("Calls that still failed after their last retry")
+                .tag("method", method)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * @return the client method a Feign request was made for, e.g. {@code findById}
+     */
+    public static String methodOf(Request request) {
+        if (request == null || request.requestTemplate() == null) {
+            return UNKNOWN_METHOD;
+        }
+        final var metadata = request.requestTemplate().methodMetadata();
+        if (metadata == null || metadata.method() == null) {
+            return UNKNOWN_METHOD;
+        }
+        return metadata.method().getName();
+    }
+
+    public enum Outcome {
+        SUCCESS("success"),
+        THROTTLED("429"),
+        CLIENT_ERROR("4xx"),
+        SERVER_ERROR("5xx"),
+        IO_ERROR("io_error"),
+        RATE_LIMITED("rate_limited"),
+        FALLBACK("fallback");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        public static Outcome forStatus(int status) {
+            if (status == 429) {
+                return THROTTLED;
+            }
+            if (status >= 500) {
+                return SERVER_ERROR;
+            }
+            return status >= 400 ? CLIENT_ERROR : SUCCESS;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.metrics;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outermost Feign transport decorator: times every call, including any wait for a rate-limit permit, and tags it with
+ * the client method and {@link EmployeeClientMetrics.Outcome}.
+ */
+@RequiredArgsConstructor
+public class MeteredClient implements Client {
+
+    private final Client delegate;
+    private final EmployeeClientMetrics metrics;
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        final var method = EmployeeClientMetrics.methodOf(request);
+        final long start = System.nanoTime();
+        try {
+            final var response = delegate.execute(request, options);
+            metrics.record(
+                    method, EmployeeClientMetrics.Outcome.forStatus(response.status()), System.nanoTime() - start);
+            return response;
+        } catch (RateLimitExceededException e) {
+            metrics.record(method, EmployeeClientMetrics.Outcome.RATE_LIMITED, System.nanoTime() - start);
+            throw e;
+        } catch (IOException e) {
+            metrics.record(method, EmployeeClientMetrics.Outcome.IO_ERROR, System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
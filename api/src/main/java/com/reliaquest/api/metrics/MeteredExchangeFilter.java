@@ -0,0 +1,41 @@
+package com.reliaquest.api.metrics;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link org.springframework.web.reactive.function.client.WebClient} counterpart of {@link MeteredClient}; the client
+ * method is read from the {@link EmployeeClientMetrics#METHOD_ATTRIBUTE} request attribute.
+ */
+@RequiredArgsConstructor
+public class MeteredExchangeFilter implements ExchangeFilterFunction {
+
+    private final EmployeeClientMetrics metrics;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        final var method = request.attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE)
+                .map(Object::toString)
+                .orElse("unknown");
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> metrics.record(
+                            method,
+                            EmployeeClientMetrics.Outcome.forStatus(
+                                    response.statusCode().value()),
+                            System.nanoTime() - start))
+                    .doOnError(error -> metrics.record(
+                            method,
+                            error instanceof RateLimitExceededException
+                                    ? EmployeeClientMetrics.Outcome.RATE_LIMITED
+                                    : EmployeeClientMetrics.Outcome.IO_ERROR,
+                            System.nanoTime() - start));
+        });
+    }
+}
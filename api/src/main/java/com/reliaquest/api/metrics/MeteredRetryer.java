@@ -0,0 +1,33 @@
+package com.reliaquest.api.metrics;
+
+import feign.RetryableException;
+import feign.Retryer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts the retries a Feign {@link Retryer} grants and how long it sleeps before each of them.
+ */
+@RequiredArgsConstructor
+public class MeteredRetryer implements Retryer {
+
+    private final Retryer delegate;
+    private final EmployeeClientMetrics metrics;
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        final var method = EmployeeClientMetrics.methodOf(e.request());
+        final long start = System.nanoTime();
+        try {
+            delegate.continueOrPropagate(e);
+        } catch (RetryableException exhausted) {
+            metrics.recordRetriesExhausted(method);
+            throw exhausted;
+        }
+        metrics.recordRetry(method, System.nanoTime() - start);
+    }
+
+    @Override
+    public Retryer clone() {
+        return new MeteredRetryer(delegate.clone(), metrics);
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.model.DTO;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reliaquest.api.utils.ApiResponses;
+import lombok.*;
+
+/**
+ * Outcome of one item of a batch request; {@code index} is the item's position in the request.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BatchItemResult<T> {
+    private static final String FAILED_STATUS = "Failed to process request.";
+
+    private int index;
+
+    private T data;
+
+    private String status;
+
+    private String error;
+
+    public static <T> BatchItemResult<T> handled(int index, T data) {
+        return new BatchItemResult<>(index, data, ApiResponses.SUCCESS_STATUS, null);
+    }
+
+    public static <T> BatchItemResult<T> failed(int index, String error) {
+        return new BatchItemResult<>(index, null, FAILED_STATUS, error);
+    }
+
+    @JsonIgnore
+    public boolean isHandled() {
+        return ApiResponses.SUCCESS_STATUS.equalsIgnoreCase(status);
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.model.DTO;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.reliaquest.api.model.Employee;
+import lombok.*;
+
+/**
+ * One entry of the remote roster change log; {@code sequence} is the roster version the change produced.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmployeeChange {
+    private long sequence;
+
+    private Type type;
+
+    private Employee employee;
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.model.DTO;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import lombok.*;
+
+/**
+ * The remote roster changes after a requested version. {@code version} is the roster version reached once
+ * {@code changes} are applied; {@code reset} means the change log no longer reaches back to the requested version and
+ * the roster must be reloaded.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmployeeChanges {
+    private String epoch;
+
+    private long version;
+
+    private boolean reset;
+
+    private List<EmployeeChange> changes;
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.model.DTO;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import lombok.*;
+
+/**
+ * One page of the remote roster; {@code next} is the cursor for the following page and is {@code null} on the last one.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmployeePage {
+    private List<Employee> employees;
+
+    private String next;
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.model.DTO;
+
+import java.time.Instant;
+import lombok.Getter;
+
+/**
+ * An {@link ApiResponse} answered locally from the roster snapshot loaded at {@code loadedAt}, because the remote
+ * service could not be asked.
+ */
+@Getter
+public class SnapshotApiResponse<T> extends ApiResponse<T> {
+
+    private final Instant loadedAt;
+
+    public SnapshotApiResponse(String status, T data, Instant loadedAt) {
+        super(status, data);
+        this.loadedAt = loadedAt;
+    }
+}
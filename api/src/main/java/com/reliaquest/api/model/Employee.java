@@ -20,7 +20,7 @@ public class Employee {
     private String title;
     private String email;
 
-    static class PrefixNamingStrategy extends PropertyNamingStrategies.NamingBase {
+    public static class PrefixNamingStrategy extends PropertyNamingStrategies.NamingBase {
         private static final String PREFIX = "employee_";
 
         @Override
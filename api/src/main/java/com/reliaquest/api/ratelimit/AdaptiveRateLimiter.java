@@ -0,0 +1,255 @@
+package com.reliaquest.api.ratelimit;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side token bucket that learns the remote service's request budget with AIMD (additive increase,
+ * multiplicative decrease).
+ *
+ * <p>Every accepted response raises the refill rate a little; every 429 halves it, empties the bucket and blocks calls
+ * until the server's {@code Retry-After} (or an exponentially growing cool-down) has passed. A caller that would have
+ * to wait longer than {@code max-wait} for a permit gets a {@link RateLimitExceededException} right away instead of
+ * parking its thread. Writes must leave {@code read-reserve} permits in the bucket, so reads are scheduled first when
+ * the budget runs low.
+ *
+ * <p>Publishes the learned rate, the time callers spent waiting for a permit, and the calls it rejected or saw
+ * throttled, under {@code employee.client.rate-limit.*}.
+ */
+@Slf4j
+@Component
+public class AdaptiveRateLimiter implements MeterBinder {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final double capacity;
+    private final double additiveIncrease;
+    private final double multiplicativeDecrease;
+    private final double readReserve;
+    private final long maxWaitNanos;
+    private final long initialCooldownNanos;
+    private final long maxCooldownNanos;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+    private long cooldownNanos;
+
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitedNanos = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder throttles = new LongAdder();
+
+    @Autowired
+    public AdaptiveRateLimiter(
+            @Value("${employee.client.rate-limit.initial-rate:2.0}") double initialRate,
+            @Value("${employee.client.rate-limit.min-rate:0.05}") double minRate,
+            @Value("${employee.client.rate-limit.max-rate:50.0}") double maxRate,
+            @Value("${employee.client.rate-limit.capacity:5}") double capacity,
+            @Value("${employee.client.rate-limit.additive-increase:0.1}") double additiveIncrease,
+            @Value("${employee.client.rate-limit.multiplicative-decrease:0.5}") double multiplicativeDecrease,
+            @Value("${employee.client.rate-limit.read-reserve:1}") double readReserve,
+            @Value("${employee.client.rate-limit.max-wait:250ms}") Duration maxWait,
+            @Value("${employee.client.rate-limit.initial-cooldown:1s}") Duration initialCooldown,
+            @Value("${employee.client.rate-limit.max-cooldown:90s}") Duration maxCooldown) {
+        this(
+                initialRate,
+                minRate,
+                maxRate,
+                capacity,
+                additiveIncrease,
+                multiplicativeDecrease,
+                readReserve,
+                maxWait,
+                initialCooldown,
+                maxCooldown,
+                System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(
+            double initialRate,
+            double minRate,
+            double maxRate,
+            double capacity,
+            double additiveIncrease,
+            double multiplicativeDecrease,
+            double readReserve,
+            Duration maxWait,
+            Duration initialCooldown,
+            Duration maxCooldown,
+            LongSupplier nanoClock) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.capacity = capacity;
+        this.additiveIncrease = additiveIncrease;
+        this.multiplicativeDecrease = multiplicativeDecrease;
+        this.readReserve = readReserve;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.initialCooldownNanos = initialCooldown.toNanos();
+        this.maxCooldownNanos = maxCooldown.toNanos();
+        this.nanoClock = nanoClock;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.cooldownNanos = initialCooldownNanos;
+    }
+
+    /**
+     * Takes a permit for one upstream call, waiting at most {@code max-wait} for it.
+     *
+     * @throws RateLimitExceededException if the call would exceed the learned budget
+     */
+    public void acquire(RequestPriority priority) {
+        final long waitNanos;
+        try {
+            waitNanos = reserve(priority, maxWaitNanos);
+        } catch (RateLimitExceededException e) {
+            rejections.increment();
+            throw e;
+        }
+        if (waitNanos > 0) {
+            waits.increment();
+            waitedNanos.add(waitNanos);
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RateLimitExceededException(
+                        "Interrupted while waiting for the remote service request budget", Duration.ZERO);
+            }
+        }
+    }
+
+    /**
+     * Takes a permit only if one is available right now.
+     *
+     * @return whether a permit was taken
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        try {
+            return reserve(priority, 0) == 0;
+        } catch (RateLimitExceededException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks, without taking a permit, whether one is available right now with {@code spare} permits left over, so
+     * optional calls such as hedges only spend budget that other callers do not need. Such a call still takes its
+     * permit through {@link #acquire} like any other.
+     */
+    public synchronized boolean hasHeadroom(RequestPriority priority, double spare) {
+        final long now = nanoClock.getAsLong();
+        refill(now);
+        return now >= blockedUntilNanos && tokens >= required(priority) + spare;
+    }
+
+    /**
+     * Records a response the remote service accepted, growing the budget additively.
+     */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + additiveIncrease);
+        cooldownNanos = initialCooldownNanos;
+    }
+
+    /**
+     * Records a 429, shrinking the budget multiplicatively and blocking calls until the cool-down has passed.
+     *
+     * @param retryAfter the server's {@code Retry-After}, or {@code null} to use the exponential cool-down
+     */
+    public synchronized void onThrottled(Duration retryAfter) {
+        final long now = nanoClock.getAsLong();
+        throttles.increment();
+        refill(now);
+        rate = Math.max(minRate, rate * multiplicativeDecrease);
+        tokens = Math.min(tokens, 0);
+        final long cooldown = retryAfter != null ? retryAfter.toNanos() : cooldownNanos;
+        blockedUntilNanos = Math.max(blockedUntilNanos, now + cooldown);
+        cooldownNanos = Math.min(maxCooldownNanos, cooldownNanos * 2);
+        log.warn(
+                "Remote service is rate limiting; budget lowered to {} req/s, blocked for {} ms",
+                String.format("%.2f", rate),
+                TimeUnit.NANOSECONDS.toMillis(cooldown));
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.client.rate-limit.rate", this, AdaptiveRateLimiter::getRate)
+                .description("Learned request budget of the remote service")
+                .baseUnit("requests/s")
+                .register(registry);
+        FunctionTimer.builder(
+                        "employee.client.rate-limit.wait",
+                        this,
+                        limiter -> limiter.waits.sum(),
+                        limiter -> limiter.waitedNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time callers slept waiting for a permit")
+                .register(registry);
+        FunctionCounter.builder("employee.client.rate-limit.rejected", this, limiter -> limiter.rejections.sum())
+                .description("Calls failed fast because no permit was available within max-wait")
+                .register(registry);
+        FunctionCounter.builder("employee.client.rate-limit.throttled", this, limiter -> limiter.throttles.sum())
+                .description("429 responses received from the remote service")
+                .register(registry);
+    }
+
+    /**
+     * @return how long the caller must sleep before using the permit it was given
+     */
+    private synchronized long reserve(RequestPriority priority, long maxWait) {
+        final long now = nanoClock.getAsLong();
+        refill(now);
+
+        final double required = required(priority);
+        final long blockedNanos = Math.max(0, blockedUntilNanos - now);
+        final long refillNanos =
+                tokens >= required ? 0 : (long) Math.ceil((required - tokens) / rate * NANOS_PER_SECOND);
+        final long waitNanos = blockedNanos + refillNanos;
+        if (waitNanos > maxWait) {
+            throw new RateLimitExceededException(
+                    String.format(
+                            "%s request to the remote service would exceed its request budget; retry in %d ms",
+                            priority, TimeUnit.NANOSECONDS.toMillis(waitNanos)),
+                    Duration.ofNanos(waitNanos));
+        }
+        // Going negative reserves a future permit, which queues later callers behind this one
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    private double required(RequestPriority priority) {
+        return priority == RequestPriority.READ ? 1 : 1 + readReserve;
+    }
+
+    /**
+     * Adds the permits earned since the last refill, ignoring time spent blocked after a 429.
+     */
+    private void refill(long now) {
+        final long from = Math.max(lastRefillNanos, Math.min(now, blockedUntilNanos));
+        if (now > from) {
+            tokens = Math.min(capacity, tokens + (now - from) / NANOS_PER_SECOND * rate);
+        }
+        lastRefillNanos = Math.max(lastRefillNanos, now);
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.api.ratelimit;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Feign transport decorator that takes a permit from the {@link AdaptiveRateLimiter} before each call and feeds the
+ * response status back into it.
+ */
+@RequiredArgsConstructor
+public class RateLimitingClient implements Client {
+
+    private final Client delegate;
+    private final AdaptiveRateLimiter rateLimiter;
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        rateLimiter.acquire(RequestPriority.forHttpMethod(request.httpMethod().name()));
+        final var response = delegate.execute(request, options);
+        if (response.status() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            rateLimiter.onThrottled(retryAfter(response));
+        } else if (response.status() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            rateLimiter.onSuccess();
+        }
+        return response;
+    }
+
+    private static Duration retryAfter(Response response) {
+        final Collection<String> values = response.headers().get(HttpHeaders.RETRY_AFTER);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(values.iterator().next().trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.ratelimit;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link org.springframework.web.reactive.function.client.WebClient} counterpart of {@link RateLimitingClient}.
+ *
+ * @implNote The permit is taken when the exchange is subscribed. {@code WebClientEmployeeClient} blocks on the caller's
+ * thread, so the bounded wait for a permit never runs on the event loop.
+ */
+@RequiredArgsConstructor
+public class RateLimitingExchangeFilter implements ExchangeFilterFunction {
+
+    private final AdaptiveRateLimiter rateLimiter;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.fromRunnable(() -> rateLimiter.acquire(RequestPriority.forHttpMethod(request.method().name())))
+                .then(next.exchange(request))
+                .doOnNext(this::record);
+    }
+
+    private void record(ClientResponse response) {
+        if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            rateLimiter.onThrottled(retryAfter(response));
+        } else if (response.statusCode().value() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            rateLimiter.onSuccess();
+        }
+    }
+
+    private static Duration retryAfter(ClientResponse response) {
+        final var value = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.ratelimit;
+
+/**
+ * Scheduling priority of an upstream call. Reads are served before writes when the request budget runs low.
+ */
+public enum RequestPriority {
+    READ,
+    WRITE;
+
+    public static RequestPriority forHttpMethod(String method) {
+        return "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) ? READ : WRITE;
+    }
+}
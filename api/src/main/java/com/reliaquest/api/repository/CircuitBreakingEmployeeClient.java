@@ -0,0 +1,97 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.BatchItemResult;
+import com.reliaquest.api.model.DTO.EmployeeChanges;
+import com.reliaquest.api.model.DTO.EmployeePage;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.request.DeleteRequest;
+import com.reliaquest.api.model.request.EmployeeRequest;
+import feign.Response;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+import org.springframework.cloud.openfeign.FallbackFactory;
+
+/**
+ * Runs every call of a non-Feign {@link EmployeeClient} through the circuit breaker and hands failed or rejected calls
+ * to the fallback, the way Spring Cloud OpenFeign does for the Feign client.
+ */
+@RequiredArgsConstructor
+public class CircuitBreakingEmployeeClient implements EmployeeClient {
+
+    private final EmployeeClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final FallbackFactory<? extends EmployeeClient> fallbackFactory;
+
+    @Override
+    public ApiResponse<List<Employee>> findAll() {
+        return call(EmployeeClient::findAll);
+    }
+
+    @Override
+    public Response streamAll(String ifNoneMatch) {
+        return call(client -> client.streamAll(ifNoneMatch));
+    }
+
+    @Override
+    public ApiResponse<EmployeePage> findPage(int limit, String after, String fields) {
+        return call(client -> client.findPage(limit, after, fields));
+    }
+
+    @Override
+    public ApiResponse<List<Employee>> searchByName(String name, boolean ignoreCase, int limit) {
+        return call(client -> client.searchByName(name, ignoreCase, limit));
+    }
+
+    @Override
+    public ApiResponse<Integer> findMaxSalary() {
+        return call(EmployeeClient::findMaxSalary);
+    }
+
+    @Override
+    public ApiResponse<List<Employee>> findTopBySalary(int limit) {
+        return call(client -> client.findTopBySalary(limit));
+    }
+
+    @Override
+    public ApiResponse<EmployeeChanges> findChanges(long since, int limit) {
+        return call(client -> client.findChanges(since, limit));
+    }
+
+    @Override
+    public ApiResponse<Employee> create(EmployeeRequest employee) {
+        return call(client -> client.create(employee));
+    }
+
+    @Override
+    public ApiResponse<Boolean> deleteByName(DeleteRequest request) {
+        return call(client -> client.deleteByName(request));
+    }
+
+    @Override
+    public ApiResponse<Employee> findById(String id) {
+        return call(client -> client.findById(id));
+    }
+
+    @Override
+    public ApiResponse<Employee> deleteById(String id) {
+        return call(client -> client.deleteById(id));
+    }
+
+    @Override
+    public ApiResponse<List<BatchItemResult<Employee>>> createAll(List<EmployeeRequest> employees) {
+        return call(client -> client.createAll(employees));
+    }
+
+    @Override
+    public ApiResponse<List<BatchItemResult<Employee>>> deleteAllById(List<UUID> ids) {
+        return call(client -> client.deleteAllById(ids));
+    }
+
+    private <T> T call(Function<EmployeeClient, T> call) {
+        return circuitBreaker.run(() -> call.apply(delegate), cause -> call.apply(fallbackFactory.create(cause)));
+    }
+}
@@ -2,23 +2,75 @@ package com.reliaquest.api.repository;
 
 import com.reliaquest.api.config.FeignClientConfig;
 import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.BatchItemResult;
+import com.reliaquest.api.model.DTO.EmployeeChanges;
+import com.reliaquest.api.model.DTO.EmployeePage;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.request.DeleteRequest;
 import com.reliaquest.api.model.request.EmployeeRequest;
+import feign.Response;
 import java.util.List;
+import java.util.UUID;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 @FeignClient(
         name = "employeeClient",
         url = "${employee.service.base-url:http://localhost:8112/api/v1/employee}",
         configuration = FeignClientConfig.class,
-        fallback = EmployeeClientFallback.class)
+        fallbackFactory = EmployeeClientFallbackFactory.class,
+        primary = false)
 public interface EmployeeClient {
 
     @GetMapping
     ApiResponse<List<Employee>> findAll();
 
+    /**
+     * Same request as {@link #findAll()}, but hands back the undecoded response so the roster can be read
+     * incrementally; the caller must close it.
+     *
+     * @param ifNoneMatch the {@code ETag} of a previously read roster, or {@code null}; if the roster has not changed
+     *     since, the response is a bodiless {@code 304 Not Modified}
+     */
+    @GetMapping
+    Response streamAll(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    /**
+     * Reads up to {@code limit} employees in ID order, starting after the cursor {@code after} ({@code null} for the
+     * first page). {@code fields}, if given, is a comma-separated list of serialized field names to return, e.g.
+     * {@code employee_name,employee_salary}; the other fields come back {@code null}.
+     */
+    @GetMapping
+    ApiResponse<EmployeePage> findPage(
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "fields", required = false) String fields);
+
+    /**
+     * Name search evaluated by the remote service; see {@code EmplyeeService#getEmployeesByNameSearch}.
+     */
+    @GetMapping("/search")
+    ApiResponse<List<Employee>> searchByName(
+            @RequestParam("name") String name,
+            @RequestParam("ignoreCase") boolean ignoreCase,
+            @RequestParam("limit") int limit);
+
+    @GetMapping("/salary/max")
+    ApiResponse<Integer> findMaxSalary();
+
+    /**
+     * @return up to {@code limit} employees by descending salary
+     */
+    @GetMapping("/salary/top")
+    ApiResponse<List<Employee>> findTopBySalary(@RequestParam("limit") int limit);
+
+    /**
+     * Reads up to {@code limit} roster changes after version {@code since}, the number in the roster's {@code ETag}.
+     */
+    @GetMapping("/changes")
+    ApiResponse<EmployeeChanges> findChanges(@RequestParam("since") long since, @RequestParam("limit") int limit);
+
     @PostMapping
     ApiResponse<Employee> create(@RequestBody EmployeeRequest employee);
 
@@ -27,4 +79,26 @@ public interface EmployeeClient {
 
     @GetMapping("/{id}")
     ApiResponse<Employee> findById(@PathVariable String id);
+
+    /**
+     * Deletes the employee with the given ID.
+     *
+     * @return the deleted employee, or a response without data if there was none
+     */
+    @DeleteMapping("/{id}")
+    ApiResponse<Employee> deleteById(@PathVariable String id);
+
+    /**
+     * Creates up to {@code mock.batch.max-size} employees in one request, charged once against the remote rate limit.
+     */
+    @PostMapping("/batch")
+    ApiResponse<List<BatchItemResult<Employee>>> createAll(@RequestBody List<EmployeeRequest> employees);
+
+    /**
+     * Deletes by ID like {@link #deleteById} for each ID, in one call.
+     *
+     * @return for each ID the deleted employee, or a result without data if there was none
+     */
+    @DeleteMapping("/batch/ids")
+    ApiResponse<List<BatchItemResult<Employee>>> deleteAllById(@RequestBody List<UUID> ids);
 }
@@ -0,0 +1,87 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.utils.SingleFlight;
+import feign.Response;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight front for the idempotent {@link EmployeeClient} reads.
+ *
+ * <p>Concurrent {@code findAll} calls, concurrent {@code streamAll} calls with the same {@code If-None-Match}, and
+ * concurrent {@code findById} calls for the same ID, share one upstream request and its response, so a burst of
+ * identical reads costs one unit of the remote rate limit. Collapsed and executed calls
+ * are published as {@code employee.client.coalesced} and {@code employee.client.executed}, tagged by operation.
+ *
+ * <p>The one upstream {@code findById} goes through the {@link EmployeeClientHedger}, if there is one.
+ */
+@Component
+public class EmployeeClientCoalescer {
+
+    private static final String FIND_ALL = "findAll";
+    private static final String FIND_BY_ID = "findById";
+    private static final String STREAM_ALL = "streamAll";
+
+    private final EmployeeClient employeeClient;
+    private final EmployeeClientHedger hedger;
+    private final SingleFlight<String, ApiResponse<List<Employee>>> findAllFlight = new SingleFlight<>();
+    private final SingleFlight<String, ApiResponse<Employee>> findByIdFlight = new SingleFlight<>();
+    private final SingleFlight<String, Object> streamAllFlight = new SingleFlight<>();
+
+    public EmployeeClientCoalescer(EmployeeClient employeeClient, MeterRegistry meterRegistry) {
+        this(employeeClient, null, meterRegistry);
+    }
+
+    @Autowired
+    public EmployeeClientCoalescer(
+            EmployeeClient employeeClient, EmployeeClientHedger hedger, MeterRegistry meterRegistry) {
+        this.employeeClient = employeeClient;
+        this.hedger = hedger;
+        register(meterRegistry, FIND_ALL, findAllFlight);
+        register(meterRegistry, FIND_BY_ID, findByIdFlight);
+        register(meterRegistry, STREAM_ALL, streamAllFlight);
+    }
+
+    public ApiResponse<List<Employee>> findAll() {
+        return findAllFlight.execute(FIND_ALL, employeeClient::findAll);
+    }
+
+    public ApiResponse<Employee> findById(String id) {
+        return findByIdFlight.execute(
+                id, () -> hedger != null ? hedger.findById(id) : employeeClient.findById(id));
+    }
+
+    /**
+     * Streams the roster and decodes it while the response is open. A body can only be read once, so callers joining a
+     * flight share the decoded result; every caller passing the same {@code ifNoneMatch} must decode alike.
+     *
+     * @param ifNoneMatch the tag of the roster the caller already holds, or {@code null}
+     * @param decoder reads the response; it is closed once the decoder returns
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T streamAll(String ifNoneMatch, Function<Response, T> decoder) {
+        return (T) streamAllFlight.execute(Objects.requireNonNullElse(ifNoneMatch, ""), () -> {
+            try (final var response = employeeClient.streamAll(ifNoneMatch)) {
+                return decoder.apply(response);
+            }
+        });
+    }
+
+    private static void register(MeterRegistry meterRegistry, String operation, SingleFlight<?, ?> flight) {
+        FunctionCounter.builder("employee.client.coalesced", flight, SingleFlight::coalescedCount)
+                .description("Upstream calls that joined an identical call already in flight")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        FunctionCounter.builder("employee.client.executed", flight, SingleFlight::executedCount)
+                .description("Upstream calls that were actually sent")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.exception.RemoteServiceException;
+import com.reliaquest.api.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.BatchItemResult;
+import com.reliaquest.api.model.DTO.EmployeeChanges;
+import com.reliaquest.api.model.DTO.EmployeePage;
+import com.reliaquest.api.model.DTO.SnapshotApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.request.DeleteRequest;
+import com.reliaquest.api.model.request.EmployeeRequest;
+import com.reliaquest.api.utils.ApiResponses;
+import feign.Response;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * What {@link EmployeeClient} answers when a call fails or its circuit breaker is open.
+ *
+ * <p>{@code findById} and the pushed-down queries are answered from the last good roster snapshot, as a
+ * {@link SnapshotApiResponse} so the request can be flagged as possibly stale. An ID the snapshot does not know fails
+ * with the original cause rather than reading as a missing employee, since it may have been created since. Roster loads
+ * fail with the original cause, so the snapshot cache keeps serving, and ages, its last good copy instead of replacing
+ * it with itself. Writes fail fast with the original cause.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EmployeeClientFallback implements EmployeeClient {
+
+    private final Throwable cause;
+    private final EmployeeSnapshot snapshot;
+    private final EmployeeClientMetrics metrics;
+
+    @Override
+    public ApiResponse<List<Employee>> findAll() {
+        throw propagate();
+    }
+
+    @Override
+    public Response streamAll(String ifNoneMatch) {
+        throw propagate();
+    }
+
+    @Override
+    public ApiResponse<EmployeePage> findPage(int limit, String after, String fields) {
+        throw propagate();
+    }
+
+    @Override
+    public ApiResponse<List<Employee>> searchByName(String name, boolean ignoreCase, int limit) {
+        return fromSnapshot("searchByName", snapshot -> snapshot.searchByName(name, ignoreCase, limit));
+    }
+
+    @Override
+    public ApiResponse<Integer> findMaxSalary() {
+        return fromSnapshot("findMaxSalary", EmployeeSnapshot::getMaxSalary);
+    }
+
+    @Override
+    public ApiResponse<List<Employee>> findTopBySalary(int limit) {
+        return fromSnapshot("findTopBySalary", snapshot -> snapshot.getEmployees().stream()
+                .sorted(Comparator.comparing(
+                        Employee::getSalary, Comparator.nullsLast(Comparator.<Integer>reverseOrder())))
+                .limit(limit)
+                .toList());
+    }
+
+    @Override
+    public ApiResponse<EmployeeChanges> findChanges(long since, int limit) {
+        throw propagate();
+    }
+
+    @Override
+    public ApiResponse<Employee> create(EmployeeRequest employee) {
+        throw propagate();
+    }
+
+    @Override
+    public ApiResponse<Boolean> deleteByName(DeleteRequest request) {
+        throw propagate();
+    }
+
+    @Override
+    public ApiResponse<Employee> deleteById(String id) {
+        throw propagate();
+    }
+
+    @Override
+    public ApiResponse<List<BatchItemResult<Employee>>> createAll(List<EmployeeRequest> employees) {
+        throw propagate();
+    }
+
+    @Override
+    public ApiResponse<List<BatchItemResult<Employee>>> deleteAllById(List<UUID> ids) {
+        throw propagate();
+    }
+
+    @Override
+    public ApiResponse<Employee> findById(String id) {
+        return fromSnapshot(
+                "findById", snapshot -> parseId(id).flatMap(snapshot::findById).orElseThrow(this::propagate));
+    }
+
+    private <T> ApiResponse<T> fromSnapshot(String method, Function<EmployeeSnapshot, T> query) {
+        if (snapshot == null) {
+            throw propagate();
+        }
+        final long start = System.nanoTime();
+        log.debug("Serving {} from the snapshot loaded at {}: {}", method, snapshot.getLoadedAt(), reason());
+        final var data = query.apply(snapshot);
+        metrics.record(method, EmployeeClientMetrics.Outcome.FALLBACK, System.nanoTime() - start);
+        return new SnapshotApiResponse<>(ApiResponses.SUCCESS_STATUS, data, snapshot.getLoadedAt());
+    }
+
+    private static Optional<UUID> parseId(String id) {
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String reason() {
+        return cause != null ? cause.getClass().getSimpleName() + ": " + cause.getMessage() : "no cause";
+    }
+
+    private RuntimeException propagate() {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RemoteServiceException("Employee service call failed: " + reason());
+    }
+}
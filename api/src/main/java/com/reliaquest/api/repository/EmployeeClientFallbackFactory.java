@@ -0,0 +1,25 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.metrics.EmployeeClientMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.FallbackFactory;
+
+/**
+ * Creates an {@link EmployeeClientFallback} for each failed call, with the failure and the snapshot current at that
+ * moment.
+ *
+ * @implNote The cache is looked up lazily: it is built from a {@code RosterLoader} that itself needs the Feign client.
+ */
+@RequiredArgsConstructor
+public class EmployeeClientFallbackFactory implements FallbackFactory<EmployeeClient> {
+
+    private final ObjectProvider<EmployeeSnapshotCache> employeeSnapshotCache;
+    private final EmployeeClientMetrics metrics;
+
+    @Override
+    public EmployeeClient create(Throwable cause) {
+        return new EmployeeClientFallback(cause, employeeSnapshotCache.getObject().peek(), metrics);
+    }
+}
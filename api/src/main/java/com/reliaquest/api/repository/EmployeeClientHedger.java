@@ -0,0 +1,295 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.config.AsyncConfig;
+import com.reliaquest.api.exception.RemoteServiceException;
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.ratelimit.AdaptiveRateLimiter;
+import com.reliaquest.api.ratelimit.RequestPriority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedges {@code findById} against slow responses; enabled with {@code employee.client.hedge.enabled=true}.
+ *
+ * <p>The request runs on the caller's thread. If it has not answered after the hedge delay, a duplicate is sent on
+ * the hedge executor and the first successful response wins; a failure only counts once both have failed. The loser is
+ * cancelled by interrupting its thread: a Reactor-based transport abandons the exchange at once, while the blocking
+ * sockets of the Feign transport ignore the interrupt, so there a losing request still holds the caller until it
+ * answers or reaches its read timeout. The delay tracks the {@code employee.client.hedge.percentile} of recent response
+ * times, successful or not, clamped to {@code min-delay}..{@code max-delay}, so only the slowest few percent of calls
+ * are hedged. A duplicate is only sent while the {@link AdaptiveRateLimiter} has {@code min-spare-permits} beyond the
+ * one it needs, so hedges never take the budget of first attempts, and it still takes its permit through the transport
+ * like any other call.
+ *
+ * <p>Publishes {@code employee.client.hedge.calls}, {@code employee.client.hedges} tagged {@code outcome} (sent, won
+ * or skipped for lack of budget), the current delay, and the share of recent calls that were hedged as
+ * {@code employee.client.hedge.rate}.
+ */
+@Slf4j
+@Component
+public class EmployeeClientHedger implements MeterBinder {
+
+    private static final int WINDOW = 1024;
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final EmployeeClient employeeClient;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final Executor executor;
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final double minSparePermits;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(WINDOW);
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long delayNanos;
+    private volatile double hedgeRate;
+    private final AtomicLong hedgesAtLastRecompute = new AtomicLong();
+    private final AtomicLong callsAtLastRecompute = new AtomicLong();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    @Autowired
+    public EmployeeClientHedger(
+            EmployeeClient employeeClient,
+            AdaptiveRateLimiter rateLimiter,
+            @Qualifier(AsyncConfig.EMPLOYEE_HEDGE_EXECUTOR) Executor executor,
+            @Value("${employee.client.hedge.enabled:false}") boolean enabled,
+            @Value("${employee.client.hedge.percentile:0.95}") double percentile,
+            @Value("${employee.client.hedge.min-delay:20ms}") Duration minDelay,
+            @Value("${employee.client.hedge.max-delay:500ms}") Duration maxDelay,
+            @Value("${employee.client.hedge.min-spare-permits:1}") double minSparePermits) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Hedge percentile must be between 0 and 1");
+        }
+        if (minDelay.compareTo(maxDelay) > 0) {
+            throw new IllegalArgumentException("Hedge min-delay must not exceed max-delay");
+        }
+        this.employeeClient = employeeClient;
+        this.rateLimiter = rateLimiter;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.minSparePermits = minSparePermits;
+        // Until enough responses have been seen, only hedge calls that are slow by any standard
+        this.delayNanos = maxDelayNanos;
+    }
+
+    public ApiResponse<Employee> findById(String id) {
+        if (!enabled) {
+            return employeeClient.findById(id);
+        }
+        calls.increment();
+        final var race = new Race(id, Thread.currentThread());
+        // The JDK's shared delay scheduler only decides whether to hedge; the hedge itself runs on the executor
+        final var trigger = CompletableFuture.runAsync(
+                race::hedge, CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, Runnable::run));
+
+        final long started = System.nanoTime();
+        boolean succeeded = false;
+        ApiResponse<Employee> response = null;
+        Throwable failure = null;
+        try {
+            response = employeeClient.findById(id);
+            succeeded = true;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        } finally {
+            record(System.nanoTime() - started);
+            trigger.cancel(false);
+        }
+        return race.primaryFinished(succeeded, response, failure);
+    }
+
+    /**
+     * Adds a response time to the window and, every {@value #RECOMPUTE_EVERY} responses, re-derives the hedge delay and
+     * the recent hedge rate from it.
+     */
+    private void record(long latencyNanos) {
+        final long count = recorded.incrementAndGet();
+        latencies.set((int) ((count - 1) % WINDOW), latencyNanos);
+        if (count % RECOMPUTE_EVERY != 0) {
+            return;
+        }
+        final var window = new long[(int) Math.min(count, WINDOW)];
+        for (int i = 0; i < window.length; i++) {
+            window[i] = latencies.get(i);
+        }
+        Arrays.sort(window);
+        final long latency = window[Math.min(window.length - 1, (int) (percentile * window.length))];
+        delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, latency));
+
+        final long totalCalls = calls.sum();
+        final long totalHedges = sent.sum();
+        final long recentCalls = totalCalls - callsAtLastRecompute.getAndSet(totalCalls);
+        final long recentHedges = totalHedges - hedgesAtLastRecompute.getAndSet(totalHedges);
+        if (recentCalls > 0) {
+            hedgeRate = (double) recentHedges / recentCalls;
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new RemoteServiceException("Remote service call failed", cause);
+    }
+
+    /**
+     * One hedged call: the primary on the caller's thread and at most one hedge on the executor. The first successful
+     * response completes {@code winner}, and the other request is interrupted.
+     */
+    private final class Race {
+        private final String id;
+        private final Thread caller;
+        private final CompletableFuture<ApiResponse<Employee>> winner = new CompletableFuture<>();
+
+        // Guarded by this
+        private FutureTask<ApiResponse<Employee>> hedge;
+        private boolean primaryDone;
+        private boolean callerInterrupted;
+
+        Race(String id, Thread caller) {
+            this.id = id;
+            this.caller = caller;
+        }
+
+        /**
+         * Runs once the hedge delay has passed, unless the primary has answered by then.
+         */
+        synchronized void hedge() {
+            if (primaryDone) {
+                return;
+            }
+            if (!rateLimiter.hasHeadroom(RequestPriority.READ, minSparePermits)) {
+                skipped.increment();
+                return;
+            }
+            final var task = new FutureTask<>(this::callHedge);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.debug("Hedge executor saturated, not hedging findById");
+                skipped.increment();
+                return;
+            }
+            hedge = task;
+            sent.increment();
+        }
+
+        private ApiResponse<Employee> callHedge() {
+            final long started = System.nanoTime();
+            try {
+                final var response = employeeClient.findById(id);
+                synchronized (this) {
+                    if (winner.complete(response)) {
+                        won.increment();
+                        if (!primaryDone) {
+                            callerInterrupted = true;
+                            caller.interrupt();
+                        }
+                    }
+                }
+                return response;
+            } finally {
+                record(System.nanoTime() - started);
+            }
+        }
+
+        /**
+         * Settles the race on the caller's thread once the primary has returned, waiting for the hedge only if the
+         * primary failed while the hedge is still running.
+         */
+        ApiResponse<Employee> primaryFinished(boolean succeeded, ApiResponse<Employee> response, Throwable failure) {
+            final FutureTask<ApiResponse<Employee>> hedge;
+            synchronized (this) {
+                primaryDone = true;
+                if (callerInterrupted) {
+                    // The interrupt only cancelled the primary; it must not leak into the rest of the request
+                    Thread.interrupted();
+                }
+                if (succeeded) {
+                    winner.complete(response);
+                }
+                hedge = this.hedge;
+            }
+            if (winner.isDone()) {
+                if (hedge != null) {
+                    hedge.cancel(true);
+                }
+                return winner.join();
+            }
+            if (hedge == null) {
+                throw rethrow(failure);
+            }
+            try {
+                return hedge.get();
+            } catch (ExecutionException e) {
+                // Both failed; report the primary's failure like an unhedged call would
+                throw rethrow(failure);
+            } catch (InterruptedException e) {
+                hedge.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new RemoteServiceException("Interrupted while waiting for the remote service", e);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.client.hedge.calls", calls, LongAdder::sum)
+                .description("findById calls eligible for hedging")
+                .register(registry);
+        FunctionCounter.builder("employee.client.hedges", sent, LongAdder::sum)
+                .description("Duplicate findById requests")
+                .tag("outcome", "sent")
+                .register(registry);
+        FunctionCounter.builder("employee.client.hedges", won, LongAdder::sum)
+                .description("Duplicate findById requests")
+                .tag("outcome", "won")
+                .register(registry);
+        FunctionCounter.builder("employee.client.hedges", skipped, LongAdder::sum)
+                .description("Duplicate findById requests")
+                .tag("outcome", "skipped")
+                .register(registry);
+        Gauge.builder("employee.client.hedge.delay", this, hedger -> hedger.delayNanos / 1e9)
+                .description("Time a findById call waits for its response before it is hedged")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("employee.client.hedge.rate", this, hedger -> hedger.hedgeRate)
+                .description("Share of recent findById calls that sent a hedge")
+                .register(registry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.repository;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decodes the remote service's {@code {"data": [...], "status": "..."}} roster envelope from Jackson's token stream,
+ * one employee at a time, so the roster is never materialized as an intermediate {@code ApiResponse<List<Employee>>}.
+ *
+ * <p>Returns the envelope's {@code status}, which the server writes after {@code data}; callers must validate it once
+ * the stream has been consumed.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeStreamReader {
+
+    private static final String DATA = "data";
+    private static final String STATUS = "status";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Binds every employee of the roster and pushes it to the consumer. {@code null} elements are skipped.
+     *
+     * @return the envelope status
+     */
+    public String readEmployees(InputStream body, Consumer<Employee> consumer) throws IOException {
+        try (final var parser = objectMapper.getFactory().createParser(body)) {
+            return readEnvelope(parser, () -> {
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (element == JsonToken.START_OBJECT) {
+                        consumer.accept(objectMapper.readValue(parser, Employee.class));
+                    } else if (element == null) {
+                        throw new IOException("Roster response ended inside the data array");
+                    } else if (element != JsonToken.VALUE_NULL) {
+                        throw new IOException("Expected an employee object in the roster but found " + element);
+                    }
+                }
+            });
+        }
+    }
+
+    private String readEnvelope(JsonParser parser, DataReader dataReader) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object at the start of the roster response");
+        }
+        String status = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.getCurrentName();
+            final var value = parser.nextToken();
+            if (DATA.equals(field) && value == JsonToken.START_ARRAY) {
+                dataReader.read();
+            } else if (STATUS.equals(field)) {
+                status = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return status;
+    }
+
+    @FunctionalInterface
+    private interface DataReader {
+        void read() throws IOException;
+    }
+}
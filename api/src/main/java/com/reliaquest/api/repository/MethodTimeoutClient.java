@@ -0,0 +1,46 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.metrics.EmployeeClientMetrics;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+
+/**
+ * Feign transport decorator that replaces the client-wide read timeout for individual {@link EmployeeClient} methods,
+ * e.g. a generous one for roster loads and a short one for single-employee lookups. Methods without an override keep
+ * the configured options.
+ */
+public class MethodTimeoutClient implements Client {
+
+    private final Client delegate;
+    private final Map<String, Duration> readTimeouts;
+
+    /**
+     * @param readTimeouts read timeouts keyed by {@link EmployeeClient} method name
+     */
+    public MethodTimeoutClient(@NonNull Client delegate, @NonNull Map<String, Duration> readTimeouts) {
+        this.delegate = delegate;
+        this.readTimeouts = Map.copyOf(readTimeouts);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        final var readTimeout = readTimeouts.get(EmployeeClientMetrics.methodOf(request));
+        if (readTimeout == null) {
+            return delegate.execute(request, options);
+        }
+        return delegate.execute(
+                request,
+                new Request.Options(
+                        options.connectTimeout(),
+                        options.connectTimeoutUnit(),
+                        readTimeout.toMillis(),
+                        TimeUnit.MILLISECONDS,
+                        options.isFollowRedirects()));
+    }
+}
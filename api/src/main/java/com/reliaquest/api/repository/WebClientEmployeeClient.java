@@ -0,0 +1,377 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.exception.RemoteServiceException;
+import com.reliaquest.api.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.BatchItemResult;
+import com.reliaquest.api.model.DTO.EmployeeChanges;
+import com.reliaquest.api.model.DTO.EmployeePage;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.request.DeleteRequest;
+import com.reliaquest.api.model.request.EmployeeRequest;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link EmployeeClient} on top of a pooled, non-blocking {@link WebClient}; selected with
+ * {@code employee.client.transport=webclient}.
+ *
+ * <p>I/O runs on the Netty event loop over kept-alive connections, so only the calling thread waits for the response
+ * instead of also holding a connection-bound I/O thread. Like the Feign client, a 404 is decoded as a regular response
+ * so callers can tell a missing employee from a failed call.
+ */
+@RequiredArgsConstructor
+public class WebClientEmployeeClient implements EmployeeClient {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEES =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<EmployeePage>> PAGE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<EmployeeChanges>> CHANGES =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Integer>> SALARY =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Boolean>> DELETED =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<List<BatchItemResult<Employee>>>> EMPLOYEE_BATCH =
+            new ParameterizedTypeReference<>() {};
+
+    private static final int PREFETCH = 8;
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    @Override
+    public ApiResponse<List<Employee>> findAll() {
+        return webClient
+                .get()
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "findAll")
+                .retrieve()
+                .bodyToMono(EMPLOYEES)
+                .block(timeout);
+    }
+
+    /**
+     * Streams the body as it arrives instead of aggregating it first: the Netty buffers are queued for the caller,
+     * which reads them in place and asks for the next one as each is drained, so at most {@value #PREFETCH} buffers
+     * are held and the event loop never blocks. A failure while streaming is rethrown to the reader once it has
+     * drained the buffers received before it.
+     */
+    @Override
+    public Response streamAll(String ifNoneMatch) {
+        final var entity = webClient
+                .get()
+                .headers(headers -> {
+                    if (ifNoneMatch != null) {
+                        headers.setIfNoneMatch(ifNoneMatch);
+                    }
+                })
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "streamAll")
+                .retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .block(timeout);
+        if (entity == null) {
+            throw new RemoteServiceException("Received null response from remote service");
+        }
+
+        final var body = new StreamedBody();
+        entity.getBody().doOnDiscard(DataBuffer.class, DataBufferUtils::release).subscribe(body.subscriber);
+
+        final var headers = new LinkedHashMap<String, Collection<String>>(entity.getHeaders());
+        return Response.builder()
+                .status(entity.getStatusCode().value())
+                .headers(headers)
+                .body(body, null)
+                .request(Request.create(Request.HttpMethod.GET, "", Map.of(), null, StandardCharsets.UTF_8, null))
+                .build();
+    }
+
+    @Override
+    public ApiResponse<EmployeePage> findPage(int limit, String after, String fields) {
+        return webClient
+                .get()
+                .uri(builder -> builder.queryParam("limit", limit)
+                        .queryParamIfPresent("after", Optional.ofNullable(after))
+                        .queryParamIfPresent("fields", Optional.ofNullable(fields))
+                        .build())
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "findPage")
+                .retrieve()
+                .bodyToMono(PAGE)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<List<Employee>> searchByName(String name, boolean ignoreCase, int limit) {
+        return webClient
+                .get()
+                .uri(builder -> builder.path("/search")
+                        .queryParam("name", name)
+                        .queryParam("ignoreCase", ignoreCase)
+                        .queryParam("limit", limit)
+                        .build())
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "searchByName")
+                .retrieve()
+                .bodyToMono(EMPLOYEES)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<Integer> findMaxSalary() {
+        return webClient
+                .get()
+                .uri("/salary/max")
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "findMaxSalary")
+                .retrieve()
+                .bodyToMono(SALARY)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<List<Employee>> findTopBySalary(int limit) {
+        return webClient
+                .get()
+                .uri(builder -> builder.path("/salary/top").queryParam("limit", limit).build())
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "findTopBySalary")
+                .retrieve()
+                .bodyToMono(EMPLOYEES)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<EmployeeChanges> findChanges(long since, int limit) {
+        return webClient
+                .get()
+                .uri(builder -> builder.path("/changes")
+                        .queryParam("since", since)
+                        .queryParam("limit", limit)
+                        .build())
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "findChanges")
+                .retrieve()
+                .bodyToMono(CHANGES)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<Employee> create(EmployeeRequest employee) {
+        return webClient
+                .post()
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "create")
+                .bodyValue(employee)
+                .retrieve()
+                .bodyToMono(EMPLOYEE)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<Boolean> deleteByName(DeleteRequest request) {
+        return webClient
+                .method(HttpMethod.DELETE)
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "deleteByName")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(DELETED)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<Employee> findById(String id) {
+        return webClient
+                .get()
+                .uri("/{id}", id)
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "findById")
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), response -> Mono.empty())
+                .bodyToMono(EMPLOYEE)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<Employee> deleteById(String id) {
+        return webClient
+                .delete()
+                .uri("/{id}", id)
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "deleteById")
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), response -> Mono.empty())
+                .bodyToMono(EMPLOYEE)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<List<BatchItemResult<Employee>>> createAll(List<EmployeeRequest> employees) {
+        return webClient
+                .post()
+                .uri("/batch")
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "createAll")
+                .bodyValue(employees)
+                .retrieve()
+                .bodyToMono(EMPLOYEE_BATCH)
+                .block(timeout);
+    }
+
+    @Override
+    public ApiResponse<List<BatchItemResult<Employee>>> deleteAllById(List<UUID> ids) {
+        return webClient
+                .method(HttpMethod.DELETE)
+                .uri("/batch/ids")
+                .attribute(EmployeeClientMetrics.METHOD_ATTRIBUTE, "deleteAllById")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(EMPLOYEE_BATCH)
+                .block(timeout);
+    }
+
+    /**
+     * Reading end of the roster stream. Buffers are read in place and released once drained, and each drained buffer
+     * requests the next, so demand never runs ahead of the reader by more than {@value #PREFETCH} buffers. The end of
+     * the body, normal or not, is queued after the last buffer; a failure is thrown instead of the end of stream, so
+     * a truncated roster is never mistaken for a complete one.
+     */
+    private static final class StreamedBody extends InputStream {
+
+        private static final DataBuffer END = DefaultDataBufferFactory.sharedInstance.wrap(new byte[0]);
+
+        private final BlockingQueue<DataBuffer> buffers = new LinkedBlockingQueue<>();
+        private final BaseSubscriber<DataBuffer> subscriber = new BaseSubscriber<>() {
+
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                subscription.request(PREFETCH);
+            }
+
+            @Override
+            protected void hookOnNext(DataBuffer buffer) {
+                buffers.add(buffer);
+                if (closed) {
+                    releaseQueued();
+                }
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                buffers.add(END);
+            }
+
+            @Override
+            protected void hookOnError(Throwable throwable) {
+                failure = throwable;
+                buffers.add(END);
+            }
+        };
+
+        private volatile Throwable failure;
+        private volatile boolean closed;
+        private DataBuffer current;
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            final var buffer = next();
+            return buffer == null ? -1 : buffer.read() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] destination, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            final var buffer = next();
+            if (buffer == null) {
+                return -1;
+            }
+            final int count = Math.min(length, buffer.readableByteCount());
+            buffer.read(destination, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return current == null ? 0 : current.readableByteCount();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            subscriber.dispose();
+            if (current != null) {
+                DataBufferUtils.release(current);
+                current = null;
+            }
+            releaseQueued();
+        }
+
+        /**
+         * Returns a buffer with bytes left to read, waiting for the next one once the current buffer is drained, or
+         * {@code null} at the end of the body.
+         */
+        private DataBuffer next() throws IOException {
+            while (current == null || current.readableByteCount() == 0) {
+                if (current != null) {
+                    DataBufferUtils.release(current);
+                    current = null;
+                    subscriber.request(1);
+                }
+                if (ended || closed) {
+                    throwIfFailed();
+                    return null;
+                }
+                final DataBuffer buffer;
+                try {
+                    buffer = buffers.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading the employee roster stream");
+                }
+                if (buffer == END) {
+                    ended = true;
+                    throwIfFailed();
+                    return null;
+                }
+                current = buffer;
+            }
+            return current;
+        }
+
+        private void throwIfFailed() throws IOException {
+            if (failure != null && !closed) {
+                throw new IOException("Employee roster stream failed: " + failure.getMessage(), failure);
+            }
+        }
+
+        private void releaseQueued() {
+            DataBuffer buffer;
+            while ((buffer = buffers.poll()) != null) {
+                if (buffer != END) {
+                    DataBufferUtils.release(buffer);
+                }
+            }
+        }
+    }
+}
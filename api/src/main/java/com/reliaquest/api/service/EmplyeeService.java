@@ -1,19 +1,36 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.config.AsyncConfig;
 import com.reliaquest.api.exception.RemoteServiceException;
 import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryIndex;
 import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.BatchItemResult;
 import com.reliaquest.api.model.Employee;
-import com.reliaquest.api.model.request.DeleteRequest;
 import com.reliaquest.api.model.request.EmployeeRequest;
 import com.reliaquest.api.repository.EmployeeClient;
+import com.reliaquest.api.repository.EmployeeClientCoalescer;
 import com.reliaquest.api.transformer.RequestTransformer;
 import com.reliaquest.api.utils.ApiResponses;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import feign.RetryableException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,17 +39,57 @@ public class EmplyeeService {
     @Autowired
     private EmployeeClient employeeClient;
 
+    @Autowired
+    private EmployeeClientCoalescer employeeClientCoalescer;
+
     @Autowired
     private RequestTransformer requestTransformer;
 
+    @Autowired
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Autowired
+    @Qualifier(AsyncConfig.EMPLOYEE_TASK_EXECUTOR)
+    private Executor employeeTaskExecutor;
+
+    @Value("${employee.batch.size:500}")
+    private int batchSize;
+
+    @Value("${employee.batch.parallelism:2}")
+    private int batchParallelism;
+
+    @Value("${employee.query.mode:snapshot}")
+    private QueryMode queryMode;
+
+    @Value("${employee.query.max-search-limit:1000}")
+    private int maxSearchLimit;
+
     public List<Employee> getAllEmployees() {
-        return ApiResponses.unwrap(employeeClient.findAll());
+        return employeeSnapshotCache.get().getEmployees();
     }
 
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        return ApiResponses.unwrap(employeeClient.findAll()).stream()
-                .filter(employee -> employee.getName().contains(searchString))
-                .toList();
+        return getEmployeesByNameSearch(searchString, false, NameSearchIndex.UNLIMITED);
+    }
+
+    /**
+     * Searches employees whose name contains the given fragment.
+     *
+     * @param searchString the name fragment to look for
+     * @param ignoreCase whether matching should ignore case
+     * @param limit the maximum number of employees to return
+     * @return the matching employees, in roster order, or in the remote service's insertion order and at most
+     *     {@code employee.query.max-search-limit} of them when queries are pushed down
+     */
+    public List<Employee> getEmployeesByNameSearch(String searchString, boolean ignoreCase, int limit) {
+        if (pushDown()) {
+            if (limit <= 0) {
+                return List.of();
+            }
+            return ApiResponses.unwrap(
+                    employeeClient.searchByName(searchString, ignoreCase, Math.min(limit, maxSearchLimit)));
+        }
+        return employeeSnapshotCache.get().searchByName(searchString, ignoreCase, limit);
     }
 
     /**
@@ -50,7 +107,7 @@ public class EmplyeeService {
         }
 
 
-            ApiResponse<Employee> response = employeeClient.findById(id);
+            ApiResponse<Employee> response = employeeClientCoalescer.findById(id);
 
             // Check if the response indicates a not found scenario
             if (Objects.isNull(response) || response.getData() == null) {
@@ -70,59 +127,252 @@ public class EmplyeeService {
     }
 
     public Integer getHighestSalaryOfEmployees() {
-        return ApiResponses.unwrap(employeeClient.findAll()).stream()
-                .map(Employee::getSalary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        if (pushDown()) {
+            return ApiResponses.unwrap(employeeClient.findMaxSalary());
+        }
+        return employeeSnapshotCache.get().getMaxSalary();
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return ApiResponses.unwrap(employeeClient.findAll()).stream()
-                .sorted((a, b) -> b.getSalary().compareTo(a.getSalary()))
-                .limit(10)
-                .map(Employee::getName)
-                .toList();
+        if (pushDown()) {
+            return ApiResponses.unwrap(employeeClient.findTopBySalary(SalaryIndex.TOP_K)).stream()
+                    .map(Employee::getName)
+                    .toList();
+        }
+        return employeeSnapshotCache.get().getTopEarnerNames();
     }
 
     public Employee createEmployee(EmployeeRequest request) {
-        return ApiResponses.unwrap(employeeClient.create(request));
+        Employee created = ApiResponses.unwrap(employeeClient.create(request));
+        employeeSnapshotCache.put(created);
+        return created;
     }
 
     /**
-     * Deletes an employee by their ID.
+     * Deletes an employee by their ID in a single remote call, which removes exactly that employee even if others share
+     * its name.
      *
      * @param id the ID of the employee to delete
-     * @return a string representation of the deleted employee
+     * @return the name of the deleted employee
      * @throws IllegalArgumentException if the provided ID is null or blank
      * @throws ResourceNotFoundException if no employee is found with the given ID
      * @throws RemoteServiceException if there's an error communicating with the remote service
      */
     public String deleteById(String id) {
-        // Input validation
         if (id == null || id.trim().isEmpty()) {
             throw new IllegalArgumentException("Employee ID cannot be null or empty");
         }
+        if (parseId(id).isEmpty()) {
+            // The remote service only knows UUIDs; anything else cannot name an employee
+            throw new ResourceNotFoundException("Employee", "ID", id);
+        }
+
+        ApiResponse<Employee> response = employeeClient.deleteById(id);
+        if (response == null || response.getData() == null) {
+            throw new ResourceNotFoundException("Employee", "ID", id);
+        }
+        Employee employee = ApiResponses.unwrap(response);
+        employeeSnapshotCache.evict(employee.getId());
+        return employee.getName();
+    }
+
+    /**
+     * Creates employees in chunks of {@code employee.batch.size}, keeping up to {@code employee.batch.parallelism}
+     * chunk requests in flight. Each chunk costs one request against the remote rate limit.
+     *
+     * @param requests the employees to create
+     * @return one result per request, in request order; a failed chunk fails each of its items
+     */
+    public List<BatchItemResult<Employee>> createEmployees(List<EmployeeRequest> requests) {
+        return createEmployeesAsync(requests).join();
+    }
+
+    /**
+     * Deletes employees by ID in chunks, like {@link #createEmployees}. Each ID removes exactly that employee, even if
+     * others share its name or the roster snapshot has not seen it yet; IDs that are not UUIDs fail without a remote
+     * call.
+     *
+     * @param ids the IDs of the employees to delete
+     * @return one result per ID, in request order, holding the deleted employee's name
+     */
+    public List<BatchItemResult<String>> deleteEmployeesById(List<String> ids) {
+        return deleteEmployeesByIdAsync(ids).join();
+    }
+
+    /*
+     * Async variants for the non-blocking controller. Reads answered by an already loaded snapshot complete on the
+     * calling thread; anything that may go upstream runs on the bounded employee task executor.
+     */
+
+    public CompletableFuture<List<Employee>> getAllEmployeesAsync() {
+        return fromSnapshot(EmployeeSnapshot::getEmployees);
+    }
+
+    public CompletableFuture<List<Employee>> getEmployeesByNameSearchAsync(
+            String searchString, boolean ignoreCase, int limit) {
+        if (pushDown()) {
+            return supplyAsync(() -> getEmployeesByNameSearch(searchString, ignoreCase, limit));
+        }
+        return fromSnapshot(snapshot -> snapshot.searchByName(searchString, ignoreCase, limit));
+    }
+
+    public CompletableFuture<Employee> getEmployeeByIdAsync(String id) {
+        return supplyAsync(() -> getEmployeeById(id));
+    }
+
+    public CompletableFuture<Integer> getHighestSalaryOfEmployeesAsync() {
+        if (pushDown()) {
+            return supplyAsync(this::getHighestSalaryOfEmployees);
+        }
+        return fromSnapshot(EmployeeSnapshot::getMaxSalary);
+    }
+
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNamesAsync() {
+        if (pushDown()) {
+            return supplyAsync(this::getTopTenHighestEarningEmployeeNames);
+        }
+        return fromSnapshot(EmployeeSnapshot::getTopEarnerNames);
+    }
 
-            // Find the employee first
-            ApiResponse<Employee> response = employeeClient.findById(id);
+    public CompletableFuture<Employee> createEmployeeAsync(EmployeeRequest request) {
+        return supplyAsync(() -> createEmployee(request));
+    }
 
-            // Check if employee exists
-            if (response.getData() == null) {
-                throw new ResourceNotFoundException("Employee not found ", "ID", id);
+    public CompletableFuture<String> deleteByIdAsync(String id) {
+        return supplyAsync(() -> deleteById(id));
+    }
+
+    public CompletableFuture<List<BatchItemResult<Employee>>> createEmployeesAsync(List<EmployeeRequest> requests) {
+        return pipeline(requests, chunk -> ApiResponses.unwrap(employeeClient.createAll(chunk)))
+                .thenApply(results -> {
+                    employeeSnapshotCache.putAll(results.stream()
+                            .filter(BatchItemResult::isHandled)
+                            .map(BatchItemResult::getData)
+                            .filter(Objects::nonNull)
+                            .toList());
+                    return results;
+                });
+    }
+
+    public CompletableFuture<List<BatchItemResult<String>>> deleteEmployeesByIdAsync(List<String> ids) {
+        final var results = new ArrayList<BatchItemResult<String>>(ids.size());
+        final var uuids = new ArrayList<UUID>(ids.size());
+        final var uuidIndexes = new ArrayList<Integer>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            final var uuid = parseId(ids.get(i));
+            if (uuid.isPresent()) {
+                results.add(null);
+                uuids.add(uuid.get());
+                uuidIndexes.add(i);
+            } else {
+                // The remote service only knows UUIDs; anything else cannot name an employee
+                results.add(BatchItemResult.failed(i, "Employee not found with ID: " + ids.get(i)));
             }
+        }
+        return pipeline(uuids, chunk -> ApiResponses.unwrap(employeeClient.deleteAllById(chunk)))
+                .thenApply(deleted -> {
+                    final var evicted = new ArrayList<UUID>(deleted.size());
+                    for (final var result : deleted) {
+                        final int index = uuidIndexes.get(result.getIndex());
+                        final var employee = result.getData();
+                        if (result.isHandled() && employee != null) {
+                            evicted.add(employee.getId());
+                            results.set(index, BatchItemResult.handled(index, employee.getName()));
+                        } else {
+                            results.set(
+                                    index,
+                                    BatchItemResult.failed(
+                                            index,
+                                            result.getError() != null
+                                                    ? result.getError()
+                                                    : "Employee not found with ID: " + ids.get(index)));
+                        }
+                    }
+                    employeeSnapshotCache.evictAll(evicted);
+                    return results;
+                });
+    }
 
-            // Delete the employee by name
-            Employee employee = ApiResponses.unwrap(response);
-            DeleteRequest request =
-                    DeleteRequest.builder().name(employee.getName()).build();
+    /**
+     * Sends {@code items} in chunks of {@code batchSize} on the employee task executor; chunk {@code k} is sent once
+     * chunk {@code k - batchParallelism} has completed, so at most {@code batchParallelism} are in flight. Never
+     * completes exceptionally and yields exactly one result per item, in item order: a failed chunk yields a failed
+     * result for each of its items, and so does every item a chunk's response leaves unanswered.
+     */
+    private <I, R> CompletableFuture<List<BatchItemResult<R>>> pipeline(
+            List<I> items, Function<List<I>, List<BatchItemResult<R>>> call) {
+        final int size = Math.max(1, batchSize);
+        final int parallelism = Math.max(1, batchParallelism);
+        final var chunks = new ArrayList<CompletableFuture<List<BatchItemResult<R>>>>();
+        for (int from = 0; from < items.size(); from += size) {
+            final int offset = from;
+            final var chunk = List.copyOf(items.subList(from, Math.min(items.size(), from + size)));
+            final CompletableFuture<?> previous = chunks.size() >= parallelism
+                    ? chunks.get(chunks.size() - parallelism)
+                    : CompletableFuture.completedFuture(null);
+            chunks.add(previous.thenApplyAsync(ignored -> call.apply(chunk), employeeTaskExecutor)
+                    .handle((results, error) -> reindex(offset, chunk.size(), results, error)));
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> chunks.stream()
+                        .flatMap(chunk -> chunk.join().stream())
+                        .toList());
+    }
 
-            Boolean deleted = ApiResponses.unwrap(employeeClient.deleteByName(request));
-            if (!deleted) {
-                throw new RemoteServiceException("Failed to delete employee with ID: " + id);
+    /**
+     * Maps the results of the chunk starting at {@code offset} to item indexes. Results that are missing, repeat an
+     * index or point outside the chunk are dropped, and the items they leave unanswered fail.
+     */
+    private static <R> List<BatchItemResult<R>> reindex(
+            int offset, int size, List<BatchItemResult<R>> results, Throwable error) {
+        final var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        final var message = cause != null ? cause.getMessage() : "Remote service returned no result for this item";
+        final var slots = new ArrayList<BatchItemResult<R>>(Collections.nCopies(size, null));
+        if (error == null && results != null) {
+            for (final var result : results) {
+                if (result != null
+                        && result.getIndex() >= 0
+                        && result.getIndex() < size
+                        && slots.get(result.getIndex()) == null) {
+                    slots.set(
+                            result.getIndex(),
+                            new BatchItemResult<>(
+                                    offset + result.getIndex(),
+                                    result.getData(),
+                                    result.getStatus(),
+                                    result.getError()));
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (slots.get(i) == null) {
+                slots.set(i, BatchItemResult.failed(offset + i, message));
             }
+        }
+        return slots;
+    }
 
-            return employee.getName().toString();
+    private static Optional<UUID> parseId(String id) {
+        try {
+            return Optional.ofNullable(id).map(UUID::fromString);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 
+    private boolean pushDown() {
+        return queryMode == QueryMode.SERVER;
+    }
+
+    private <T> CompletableFuture<T> fromSnapshot(Function<EmployeeSnapshot, T> query) {
+        final var snapshot = employeeSnapshotCache.peek();
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(query.apply(snapshot));
+        }
+        return supplyAsync(() -> query.apply(employeeSnapshotCache.get()));
+    }
 
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, employeeTaskExecutor);
     }
 }
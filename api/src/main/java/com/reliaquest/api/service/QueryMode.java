@@ -0,0 +1,17 @@
+package com.reliaquest.api.service;
+
+/**
+ * Where {@link EmplyeeService} evaluates name searches and salary aggregates; set with {@code employee.query.mode}.
+ */
+public enum QueryMode {
+    /**
+     * Answered from the indexes of the cached roster snapshot; no remote call once the snapshot is loaded.
+     */
+    SNAPSHOT,
+
+    /**
+     * Pushed down to the remote service's search and salary endpoints, so only the result crosses the wire and the
+     * answer reflects writes made by other clients. Each query costs one request against the remote rate limit.
+     */
+    SERVER
+}
@@ -2,22 +2,56 @@ package com.reliaquest.api.utils;
 
 import com.reliaquest.api.exception.RemoteServiceException;
 import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.SnapshotApiResponse;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Instant;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+/**
+ * Unwraps the remote service's response envelope. Rejected envelopes are counted in the global registry as
+ * {@code employee.client.unwrap.failures}, tagged by reason.
+ *
+ * <p>Unwrapping a {@link SnapshotApiResponse} records the snapshot's load time on the current request under
+ * {@link #SNAPSHOT_LOADED_AT_ATTRIBUTE}, so the response can be flagged as possibly stale.
+ */
 public final class ApiResponses {
-    private static final String SUCCESS_STATUS = "Successfully processed request.";
+    public static final String SUCCESS_STATUS = "Successfully processed request.";
+    public static final String SNAPSHOT_LOADED_AT_ATTRIBUTE = ApiResponses.class.getName() + ".snapshotLoadedAt";
+    private static final String UNWRAP_FAILURES = "employee.client.unwrap.failures";
 
     private ApiResponses() {}
 
     public static <T> T unwrap(ApiResponse<T> response) {
         if (response == null) {
+            Metrics.counter(UNWRAP_FAILURES, "reason", "null_response").increment();
             throw new RemoteServiceException("Received null response from remote service");
         }
-        if (!SUCCESS_STATUS.equalsIgnoreCase(response.getStatus())) {
-            throw new RemoteServiceException(String.format("Remote service error: %s", response.getStatus()));
+        requireSuccess(response.getStatus());
+        if (response instanceof SnapshotApiResponse<T> fromSnapshot) {
+            markServedFromSnapshot(fromSnapshot.getLoadedAt());
         }
         if (response.getData() == null) {
+            Metrics.counter(UNWRAP_FAILURES, "reason", "null_data").increment();
             throw new RemoteServiceException("Response data is null");
         }
         return response.getData();
     }
+
+    public static void requireSuccess(String status) {
+        if (!SUCCESS_STATUS.equalsIgnoreCase(status)) {
+            Metrics.counter(UNWRAP_FAILURES, "reason", "error_status").increment();
+            throw new RemoteServiceException(String.format("Remote service error: %s", status));
+        }
+    }
+
+    private static void markServedFromSnapshot(Instant loadedAt) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            try {
+                attributes.getRequest().setAttribute(SNAPSHOT_LOADED_AT_ATTRIBUTE, loadedAt);
+            } catch (IllegalStateException e) {
+                // The request already ended, e.g. an async request that timed out
+            }
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.controller.IEmployeeController;
+import com.reliaquest.api.utils.ApiResponses;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Flags reads that may be stale with {@value #STALE_HEADER}{@code : true} and an {@code Age} header holding the age of
+ * the roster snapshot behind them, in seconds. That is every read the employee client's fallback answered from the
+ * snapshot, as recorded under {@link ApiResponses#SNAPSHOT_LOADED_AT_ATTRIBUTE}, and every read answered while the
+ * cached snapshot has not been refreshed for longer than {@code employee.cache.stale-after}, which happens when
+ * refreshes fail or the circuit breaker is open.
+ *
+ * @implNote The headers are added just before the body is written: a handler interceptor runs either before the
+ * fallback has answered or after the response has been committed.
+ */
+@RestControllerAdvice(basePackageClasses = IEmployeeController.class)
+public class SnapshotStalenessAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_HEADER = "X-Data-Stale";
+
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final Duration staleAfter;
+
+    public SnapshotStalenessAdvice(
+            EmployeeSnapshotCache employeeSnapshotCache,
+            @Value("${employee.cache.stale-after:60s}") Duration staleAfter) {
+        this.employeeSnapshotCache = employeeSnapshotCache;
+        this.staleAfter = staleAfter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return body;
+        }
+        final var now = Instant.now();
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(ApiResponses.SNAPSHOT_LOADED_AT_ATTRIBUTE)
+                        instanceof Instant loadedAt) {
+            flag(response, Duration.between(loadedAt, now));
+            return body;
+        }
+        final var snapshot = employeeSnapshotCache.peek();
+        if (snapshot != null) {
+            final var age = Duration.between(snapshot.getLoadedAt(), now);
+            if (age.compareTo(staleAfter) > 0) {
+                flag(response, age);
+            }
+        }
+        return body;
+    }
+
+    private static void flag(ServerHttpResponse response, Duration age) {
+        response.getHeaders().set(HttpHeaders.AGE, String.valueOf(Math.max(0, age.toSeconds())));
+        response.getHeaders().set(STALE_HEADER, "true");
+    }
+}
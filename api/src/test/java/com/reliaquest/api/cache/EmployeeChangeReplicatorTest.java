@@ -0,0 +1,157 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.EmployeeChangeReplicator.RosterVersion;
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.EmployeeChange;
+import com.reliaquest.api.model.DTO.EmployeeChanges;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.repository.EmployeeClient;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeReplicatorTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EmployeeSnapshotCache cache;
+
+    private EmployeeChangeReplicator replicator;
+
+    private Employee employee1;
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        employee1 = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+        employee2 = Employee.builder().id(UUID.randomUUID()).name("Jane Smith").build();
+        cache = new EmployeeSnapshotCache(() -> {
+            loads.incrementAndGet();
+            return EmployeeSnapshot.builder().etag("\"e1-5\"").add(employee1).build(Instant.now());
+        });
+        replicator = new EmployeeChangeReplicator(employeeClient, cache, 2, "streaming");
+    }
+
+    private static ApiResponse<EmployeeChanges> changes(
+            String epoch, long version, boolean reset, List<EmployeeChange> changes) {
+        return new ApiResponse<>(
+                "Successfully processed request.", new EmployeeChanges(epoch, version, reset, changes));
+    }
+
+    private static EmployeeChange created(long sequence, Employee employee) {
+        return new EmployeeChange(sequence, EmployeeChange.Type.CREATED, employee);
+    }
+
+    @Test
+    void parseShouldAcceptQuotedWeakAndBareTags() {
+        assertEquals(new RosterVersion("e1", 5), RosterVersion.parse("\"e1-5\""));
+        assertEquals(new RosterVersion("e1", 5), RosterVersion.parse("W/\"e1-5\""));
+        assertEquals(new RosterVersion("e1", 5), RosterVersion.parse("e1-5"));
+        assertEquals(new RosterVersion("1a-2b", 0), RosterVersion.parse("\"1a-2b-0\""));
+        assertEquals("\"e1-5\"", RosterVersion.parse("e1-5").toEtag());
+    }
+
+    @Test
+    void parseShouldRejectTagsWithoutAVersion() {
+        assertNull(RosterVersion.parse(null));
+        assertNull(RosterVersion.parse("\"e1\""));
+        assertNull(RosterVersion.parse("\"-5\""));
+        assertNull(RosterVersion.parse("\"e1-five\""));
+        assertNull(RosterVersion.parse("\""));
+    }
+
+    @Test
+    void replicateShouldDoNothingBeforeTheFirstLoad() {
+        replicator.replicate();
+
+        verifyNoInteractions(employeeClient);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void replicateShouldPatchChangesIntoTheSnapshotAndAdvanceItsTag() {
+        cache.get();
+        when(employeeClient.findChanges(5, 2)).thenReturn(changes("e1", 6, false, List.of(created(6, employee2))));
+
+        replicator.replicate();
+
+        assertEquals("\"e1-6\"", cache.peek().getEtag());
+        assertEquals(List.of(employee1, employee2), cache.peek().getEmployees());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void replicateShouldKeepPollingWhileBatchesAreFull() {
+        cache.get();
+        Employee employee3 = Employee.builder().id(UUID.randomUUID()).name("Jim Beam").build();
+        when(employeeClient.findChanges(5, 2))
+                .thenReturn(changes(
+                        "e1",
+                        7,
+                        false,
+                        List.of(
+                                created(6, employee2),
+                                new EmployeeChange(7, EmployeeChange.Type.DELETED, employee1))));
+        when(employeeClient.findChanges(7, 2)).thenReturn(changes("e1", 8, false, List.of(created(8, employee3))));
+
+        replicator.replicate();
+
+        assertEquals("\"e1-8\"", cache.peek().getEtag());
+        assertEquals(List.of(employee2, employee3), cache.peek().getEmployees());
+        verify(employeeClient, times(2)).findChanges(anyLong(), anyInt());
+    }
+
+    @Test
+    void resetShouldFallBackToAFullRefresh() {
+        cache.get();
+        when(employeeClient.findChanges(5, 2)).thenReturn(changes("e1", 900, true, List.of()));
+
+        replicator.replicate();
+
+        assertEquals(2, loads.get());
+        verify(employeeClient, times(1)).findChanges(anyLong(), anyInt());
+    }
+
+    @Test
+    void epochMismatchShouldFallBackToAFullRefreshInsteadOfApplyingChanges() {
+        cache.get();
+        when(employeeClient.findChanges(5, 2)).thenReturn(changes("e2", 6, false, List.of(created(6, employee2))));
+
+        replicator.replicate();
+
+        assertEquals(2, loads.get());
+        assertEquals(List.of(employee1), cache.peek().getEmployees());
+    }
+
+    @Test
+    void failedPollShouldLeaveTheSnapshotAlone() {
+        EmployeeSnapshot loaded = cache.get();
+        when(employeeClient.findChanges(5, 2)).thenThrow(new IllegalStateException("Connection refused"));
+
+        assertDoesNotThrow(replicator::replicate);
+        assertSame(loaded, cache.peek());
+    }
+
+    @Test
+    void replicatorShouldRefuseLoadersThatRecordNoVersion() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new EmployeeChangeReplicator(employeeClient, cache, 2, "full"));
+        assertThrows(
+                IllegalArgumentException.class, () -> new EmployeeChangeReplicator(employeeClient, cache, 2, "paged"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.EmployeeChange;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.repository.EmployeeClient;
+import com.reliaquest.api.repository.EmployeeClientCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotCacheTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    private EmployeeSnapshotCache cache;
+
+    private Employee employee1;
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeSnapshotCache(
+                new FullRosterLoader(new EmployeeClientCoalescer(employeeClient, new SimpleMeterRegistry())));
+        employee1 = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(100000)
+                .build();
+        employee2 = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Smith")
+                .salary(120000)
+                .build();
+    }
+
+    @Test
+    void getShouldLoadOnceAndServeFromMemory() {
+        when(employeeClient.findAll())
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee1, employee2)));
+
+        assertEquals(2, cache.get().size());
+        assertEquals(2, cache.get().size());
+
+        verify(employeeClient, times(1)).findAll();
+    }
+
+    @Test
+    void refreshShouldKeepPreviousSnapshotWhenRemoteFails() {
+        when(employeeClient.findAll())
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee1)))
+                .thenThrow(new RuntimeException("429 Too Many Requests"));
+
+        EmployeeSnapshot loaded = cache.get();
+        cache.refresh();
+
+        assertSame(loaded, cache.get());
+    }
+
+    @Test
+    void putAndEvictShouldPatchCurrentSnapshot() {
+        when(employeeClient.findAll())
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee1)));
+        cache.get();
+
+        cache.put(employee2);
+        assertTrue(cache.get().findById(employee2.getId()).isPresent());
+
+        cache.evict(employee1.getId());
+        assertEquals(List.of(employee2), cache.get().getEmployees());
+        verify(employeeClient, times(1)).findAll();
+    }
+
+    @Test
+    void applyChangesShouldPatchOnlyTheSnapshotTheyWereReadFor() {
+        when(employeeClient.findAll())
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee1)));
+        EmployeeSnapshot base = cache.get();
+        List<EmployeeChange> changes = List.of(
+                new EmployeeChange(2, EmployeeChange.Type.CREATED, employee2),
+                new EmployeeChange(3, EmployeeChange.Type.DELETED, employee1));
+
+        assertTrue(cache.applyChanges(base, changes, "\"e-3\""));
+        assertEquals(List.of(employee2), cache.get().getEmployees());
+        assertEquals("\"e-3\"", cache.get().getEtag());
+
+        assertFalse(cache.applyChanges(base, changes, "\"e-3\""));
+    }
+}
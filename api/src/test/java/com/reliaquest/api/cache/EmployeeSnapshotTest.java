@@ -0,0 +1,66 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotTest {
+
+    private static List<Employee> roster(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> Employee.builder()
+                        .id(UUID.randomUUID())
+                        .name((i % 2 == 0 ? "John Doe " : "Jane Smith ") + i)
+                        .salary(1000 + i)
+                        .age(30)
+                        .title("Engineer")
+                        .email("employee" + i + "@company.com")
+                        .build())
+                .toList();
+    }
+
+    @Test
+    void columnarSnapshotShouldServeTheNameIndexFromItsEmployees() {
+        final var employees = roster(50);
+        final var columnar = EmployeeSnapshot.of(employees, Instant.now()).columnar();
+
+        final var index = columnar.getNameSearchIndex();
+
+        assertSame(index, columnar.getNameSearchIndex());
+        assertEquals(
+                columnar.searchByName("john", true, NameSearchIndex.UNLIMITED),
+                index.search("john", true, NameSearchIndex.UNLIMITED));
+    }
+
+    @Test
+    void patchedColumnarSnapshotShouldStayColumnarAndAgreeWithTheObjectLayout() {
+        final var employees = roster(50);
+        final var added = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Jim Beam")
+                .salary(5000)
+                .age(40)
+                .title("Manager")
+                .email("jim@company.com")
+                .build();
+        final var objects = EmployeeSnapshot.of(employees, Instant.now())
+                .with(added)
+                .without(employees.get(49).getId());
+        final var columnar = EmployeeSnapshot.of(employees, Instant.now())
+                .columnar()
+                .with(added)
+                .without(employees.get(49).getId());
+
+        assertTrue(columnar.isColumnar());
+        assertEquals(objects.getEmployees(), columnar.getEmployees());
+        assertEquals(objects.getMaxSalary(), columnar.getMaxSalary());
+        assertEquals(objects.getTopEarnerNames(), columnar.getTopEarnerNames());
+        assertEquals(objects.searchByName("Smith", false, 5), columnar.searchByName("Smith", false, 5));
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.EmployeePage;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.repository.EmployeeClient;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PagedRosterLoaderTest {
+
+    private static final String SUCCESS = "Successfully processed request.";
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    @Test
+    void loadShouldFollowCursorsUntilLastPage() {
+        Employee employee1 = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+        Employee employee2 = Employee.builder().id(UUID.randomUUID()).name("Jane Smith").build();
+        Employee employee3 = Employee.builder().id(UUID.randomUUID()).name("Bill Bob").build();
+        String cursor = employee2.getId().toString();
+        when(employeeClient.findPage(2, null, null))
+                .thenReturn(new ApiResponse<>(SUCCESS, new EmployeePage(List.of(employee1, employee2), cursor)));
+        when(employeeClient.findPage(2, cursor, null))
+                .thenReturn(new ApiResponse<>(SUCCESS, new EmployeePage(List.of(employee3), null)));
+
+        EmployeeSnapshot snapshot = new PagedRosterLoader(employeeClient, 2).load();
+
+        assertEquals(List.of(employee1, employee2, employee3), snapshot.getEmployees());
+        verify(employeeClient, times(2)).findPage(anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.repository.EmployeeClient;
+import com.reliaquest.api.repository.EmployeeClientCoalescer;
+import com.reliaquest.api.repository.EmployeeStreamReader;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingRosterLoaderTest {
+
+    private static final String ETAG = "\"1f-2\"";
+    private static final String ROSTER = """
+            {"data":[{"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"Tiger Nixon"}],
+             "status":"Successfully processed request."}
+            """;
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    private StreamingRosterLoader loader() {
+        return new StreamingRosterLoader(
+                new EmployeeClientCoalescer(employeeClient, new SimpleMeterRegistry()),
+                new EmployeeStreamReader(new ObjectMapper()));
+    }
+
+    private static Response response(int status, String body) {
+        return Response.builder()
+                .status(status)
+                .headers(Map.of("ETag", List.of(ETAG)))
+                .body(body, StandardCharsets.UTF_8)
+                .request(Request.create(Request.HttpMethod.GET, "", Map.of(), null, StandardCharsets.UTF_8, null))
+                .build();
+    }
+
+    @Test
+    void loadShouldRecordEtag() {
+        when(employeeClient.streamAll(null)).thenReturn(response(200, ROSTER));
+
+        EmployeeSnapshot snapshot = loader().load();
+
+        assertEquals(1, snapshot.size());
+        assertEquals(ETAG, snapshot.getEtag());
+    }
+
+    @Test
+    void reloadShouldKeepPreviousSnapshotWhenNotModified() {
+        when(employeeClient.streamAll(null)).thenReturn(response(200, ROSTER));
+        when(employeeClient.streamAll(ETAG)).thenReturn(response(304, null));
+        StreamingRosterLoader loader = loader();
+        EmployeeSnapshot previous = loader.load();
+
+        EmployeeSnapshot reloaded = loader.reload(previous);
+
+        assertSame(previous.getEmployees(), reloaded.getEmployees());
+        assertEquals(ETAG, reloaded.getEtag());
+        assertFalse(reloaded.getLoadedAt().isBefore(previous.getLoadedAt()));
+    }
+
+    @Test
+    void concurrentLoadsShouldShareOneRequestThroughTheCoalescer() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeClient.streamAll(null)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response(200, ROSTER);
+        });
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StreamingRosterLoader loader = new StreamingRosterLoader(
+                new EmployeeClientCoalescer(employeeClient, registry), new EmployeeStreamReader(new ObjectMapper()));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<EmployeeSnapshot> first = executor.submit(loader::load);
+            started.await(5, TimeUnit.SECONDS);
+            Future<EmployeeSnapshot> second = executor.submit(loader::load);
+            TimeUnit.MILLISECONDS.sleep(50);
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(employeeClient, times(1)).streamAll(null);
+        assertEquals(
+                1,
+                registry.get("employee.client.coalesced")
+                        .tag("operation", "streamAll")
+                        .functionCounter()
+                        .count());
+    }
+}
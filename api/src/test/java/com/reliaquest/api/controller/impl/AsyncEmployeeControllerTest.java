@@ -0,0 +1,156 @@
+package com.reliaquest.api.controller.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.controller.EmployeeControllerAdvice;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmplyeeService;
+import jakarta.servlet.AsyncListener;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncEmployeeControllerTest {
+
+    @Mock
+    private EmplyeeService emplyeeService;
+
+    @InjectMocks
+    private AsyncEmployeeController asyncEmployeeController;
+
+    private MockMvc mockMvc;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(asyncEmployeeController)
+                .setControllerAdvice(new EmployeeControllerAdvice())
+                .build();
+
+        employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(100000)
+                .age(30)
+                .title("Developer")
+                .email("john@example.com")
+                .build();
+    }
+
+    @Test
+    void getAllEmployeesShouldRespondOnceTheFutureCompletes() throws Exception {
+        CompletableFuture<List<Employee>> employees = new CompletableFuture<>();
+        when(emplyeeService.getAllEmployeesAsync()).thenReturn(employees);
+
+        MvcResult result = mockMvc.perform(get("/api/employee"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        employees.complete(List.of(employee));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"));
+    }
+
+    @Test
+    void searchShouldPassQueryParametersToTheService() throws Exception {
+        when(emplyeeService.getEmployeesByNameSearchAsync("john", true, NameSearchIndex.UNLIMITED))
+                .thenReturn(CompletableFuture.completedFuture(List.of(employee)));
+
+        MvcResult result = mockMvc.perform(get("/api/employee/search")
+                        .param("name", "john")
+                        .param("ignoreCase", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"));
+    }
+
+    @Test
+    void getEmployeeByIdShouldMapAFailedFutureThroughTheControllerAdvice() throws Exception {
+        String id = UUID.randomUUID().toString();
+        when(emplyeeService.getEmployeeByIdAsync(id))
+                .thenReturn(CompletableFuture.failedFuture(new ResourceNotFoundException("Employee", "ID", id)));
+
+        MvcResult result = mockMvc.perform(get("/api/employee/{id}", id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value("Employee not found with ID: " + id));
+    }
+
+    @Test
+    void deleteEmployeeByIdShouldUnwrapCompletionExceptions() throws Exception {
+        String id = UUID.randomUUID().toString();
+        when(emplyeeService.deleteByIdAsync(id)).thenReturn(CompletableFuture.supplyAsync(() -> {
+            throw new ResourceNotFoundException("Employee", "ID", id);
+        }));
+
+        MvcResult result = mockMvc.perform(delete("/api/employee/{id}", id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void saturatedExecutorShouldFailFastWith503() throws Exception {
+        when(emplyeeService.getHighestSalaryOfEmployeesAsync())
+                .thenThrow(new TaskRejectedException("Executor did not accept task"));
+
+        mockMvc.perform(get("/api/employee/highestSalary"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void requestShouldTimeOutWith503WhenTheFutureNeverCompletes() throws Exception {
+        when(emplyeeService.getTopTenHighestEarningEmployeeNamesAsync()).thenReturn(new CompletableFuture<>());
+
+        MvcResult result = mockMvc.perform(get("/api/employee/topTenHighestEarningEmployeeNames"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(null);
+        }
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void createEmployeeShouldRejectAnInvalidBodyBeforeCallingTheService() throws Exception {
+        mockMvc.perform(post("/api/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"J\",\"salary\":10,\"age\":12}"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+
+        verify(emplyeeService, never()).createEmployeeAsync(any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.controller.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.controller.EmployeeControllerAdvice;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.request.EmployeeRequest;
+import com.reliaquest.api.service.EmplyeeService;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeControllerTest {
+
+    @Mock
+    private EmplyeeService emplyeeService;
+
+    @InjectMocks
+    private EmployeeController employeeController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(employeeController)
+                .setControllerAdvice(new EmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void createEmployeeShouldPassAValidBodyToTheService() throws Exception {
+        EmployeeRequest request = EmployeeRequest.builder()
+                .name("John Doe")
+                .salary(100000)
+                .age(30)
+                .title("Developer")
+                .build();
+        when(emplyeeService.createEmployee(request))
+                .thenReturn(Employee.builder()
+                        .id(UUID.randomUUID())
+                        .name("John Doe")
+                        .build());
+
+        mockMvc.perform(post("/api/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"John Doe\",\"salary\":100000,\"age\":30,\"title\":\"Developer\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee_name").value("John Doe"));
+    }
+
+    @Test
+    void createEmployeeShouldRejectAnInvalidBodyBeforeCallingTheService() throws Exception {
+        mockMvc.perform(post("/api/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"J\",\"salary\":10,\"age\":12}"))
+                .andExpect(status().isBadRequest());
+
+        verify(emplyeeService, never()).createEmployee(any());
+    }
+}
@@ -0,0 +1,227 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.DTO.EmployeeChange;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ColumnarRosterTest {
+
+    private static final String[] NAMES = {"John Doe", "Jane Smith", "JOHNNY Ång", "Zoë Johnson", "", null};
+    private static final String[] TITLES = {"Engineer", "Manager", null};
+
+    private final Random random = new Random(42);
+
+    private Employee employee(int i) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(NAMES[random.nextInt(NAMES.length)])
+                .salary(random.nextInt(10) == 0 ? null : random.nextInt(50))
+                .age(random.nextInt(10) == 0 ? null : 20 + i % 40)
+                .title(TITLES[random.nextInt(TITLES.length)])
+                .email(i % 7 == 0 ? null : "employee" + i + "@company.com")
+                .build();
+    }
+
+    private static Employee.EmployeeBuilder copy(Employee employee) {
+        return Employee.builder()
+                .id(employee.getId())
+                .name(employee.getName())
+                .salary(employee.getSalary())
+                .age(employee.getAge())
+                .title(employee.getTitle())
+                .email(employee.getEmail());
+    }
+
+    private List<Employee> roster(int size) {
+        return IntStream.range(0, size).mapToObj(this::employee).toList();
+    }
+
+    @Test
+    void buildShouldRoundTripEveryEmployee() {
+        List<Employee> employees = roster(200);
+
+        ColumnarRoster roster = ColumnarRoster.build(employees);
+
+        assertEquals(employees, roster.employees());
+        for (Employee employee : employees) {
+            assertEquals(employee, roster.findById(employee.getId()).orElseThrow());
+        }
+        assertTrue(roster.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void searchShouldMatchNameSearchIndex() {
+        List<Employee> employees = roster(200);
+        ColumnarRoster roster = ColumnarRoster.build(employees);
+        NameSearchIndex index = NameSearchIndex.build(employees);
+
+        for (String fragment : List.of("john", "John", "ång", "ÅNG", "zoë", "oe", "", "x")) {
+            for (boolean ignoreCase : new boolean[] {false, true}) {
+                assertEquals(
+                        index.search(fragment, ignoreCase, NameSearchIndex.UNLIMITED),
+                        roster.search(fragment, ignoreCase, NameSearchIndex.UNLIMITED),
+                        fragment + ", ignoreCase=" + ignoreCase);
+            }
+        }
+        assertEquals(index.search("Jo", true, 3), roster.search("Jo", true, 3));
+    }
+
+    @Test
+    void salaryAggregatesShouldMatchSalaryIndex() {
+        List<Employee> employees = roster(200);
+
+        ColumnarRoster roster = ColumnarRoster.build(employees);
+        SalaryIndex index = SalaryIndex.build(employees);
+
+        assertEquals(index.getMaxSalary(), roster.getMaxSalary());
+        assertEquals(index.getTopEarnerNames(), roster.getTopEarnerNames());
+        assertEquals(0, ColumnarRoster.build(List.of()).getMaxSalary());
+    }
+
+    @Test
+    void withChangesShouldMatchApplyingThemToAnOrderedMap() {
+        List<Employee> employees = roster(50);
+        List<EmployeeChange> changes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Employee target = random.nextBoolean()
+                    ? employees.get(random.nextInt(employees.size()))
+                    : employee(1000 + i);
+            Employee changed = Employee.builder()
+                    .id(target.getId())
+                    .name("Changed " + i)
+                    .salary(target.getSalary())
+                    .title(target.getTitle())
+                    .build();
+            EmployeeChange.Type type =
+                    random.nextInt(3) == 0 ? EmployeeChange.Type.DELETED : EmployeeChange.Type.CREATED;
+            changes.add(new EmployeeChange(i + 1, type, changed));
+        }
+
+        LinkedHashMap<UUID, Employee> expected = new LinkedHashMap<>();
+        employees.forEach(employee -> expected.put(employee.getId(), employee));
+        for (EmployeeChange change : changes) {
+            if (change.getType() == EmployeeChange.Type.DELETED) {
+                expected.remove(change.getEmployee().getId());
+            } else {
+                expected.put(change.getEmployee().getId(), change.getEmployee());
+            }
+        }
+
+        ColumnarRoster patched = ColumnarRoster.build(employees).withChanges(changes);
+
+        assertEquals(new ArrayList<>(expected.values()), patched.employees());
+        assertEquals(SalaryIndex.build(patched.employees()).getTopEarnerNames(), patched.getTopEarnerNames());
+    }
+
+    @Test
+    void buildShouldSkipEmployeesWithoutAnId() {
+        Employee withoutId = Employee.builder().name("John Doe").salary(100).build();
+        List<Employee> employees = roster(3);
+
+        ColumnarRoster roster = ColumnarRoster.build(
+                List.of(employees.get(0), withoutId, employees.get(1), employees.get(2)));
+
+        assertEquals(employees, roster.employees());
+        assertEquals(3, roster.size());
+    }
+
+    @Test
+    void singleRowPatchesShouldShareTheColumnsUntilTheOverlayIsMerged() {
+        List<Employee> employees = roster(50);
+        ColumnarRoster roster = ColumnarRoster.build(employees);
+        LinkedHashMap<UUID, Employee> expected = new LinkedHashMap<>();
+        employees.forEach(employee -> expected.put(employee.getId(), employee));
+
+        ColumnarRoster patched = roster.withChanges(List.of(
+                new EmployeeChange(1, EmployeeChange.Type.DELETED, employees.get(0))));
+        assertSame(ReflectionTestUtils.getField(roster, "ids"), ReflectionTestUtils.getField(patched, "ids"));
+
+        // Mostly new employees, so that the overlay outgrows its limit and is merged along the way
+        for (int i = 0; i < 3000; i++) {
+            List<Employee> current = new ArrayList<>(expected.values());
+            Employee target = random.nextInt(3) == 0 && !current.isEmpty()
+                    ? current.get(random.nextInt(current.size()))
+                    : employee(1000 + i);
+            if (random.nextInt(4) == 0) {
+                patched = patched.withChanges(List.of(new EmployeeChange(i + 2, EmployeeChange.Type.DELETED, target)));
+                expected.remove(target.getId());
+            } else {
+                Employee changed = copy(employee(i)).id(target.getId()).build();
+                patched = patched.withChanges(List.of(new EmployeeChange(i + 2, EmployeeChange.Type.CREATED, changed)));
+                expected.put(changed.getId(), changed);
+            }
+        }
+
+        ColumnarRoster merged = patched;
+        List<Employee> expectedEmployees = new ArrayList<>(expected.values());
+        assertNotSame(ReflectionTestUtils.getField(roster, "ids"), ReflectionTestUtils.getField(merged, "ids"));
+        assertEquals(expectedEmployees, merged.employees());
+        assertEquals(expectedEmployees.size(), merged.size());
+        for (Employee employee : expectedEmployees) {
+            assertEquals(employee, merged.findById(employee.getId()).orElseThrow());
+        }
+        employees.stream()
+                .filter(employee -> !expected.containsKey(employee.getId()))
+                .forEach(employee -> assertTrue(merged.findById(employee.getId()).isEmpty()));
+        NameSearchIndex index = NameSearchIndex.build(expectedEmployees);
+        assertEquals(
+                index.search("john", true, NameSearchIndex.UNLIMITED),
+                merged.search("john", true, NameSearchIndex.UNLIMITED));
+        assertEquals(index.search("Ång", false, 5), merged.search("Ång", false, 5));
+        SalaryIndex salaries = SalaryIndex.build(expectedEmployees);
+        assertEquals(salaries.getMaxSalary(), merged.getMaxSalary());
+        assertEquals(salaries.getTopEarnerNames(), merged.getTopEarnerNames());
+    }
+
+    @Test
+    void overlayShouldAnswerReadsBeforeItIsMerged() {
+        List<Employee> employees = roster(50);
+        Employee replacement = copy(employees.get(3)).name("Jim Beam").salary(1000).build();
+        Employee added = copy(employee(100)).name("Jack Johnson").salary(900).build();
+
+        ColumnarRoster patched = ColumnarRoster.build(employees)
+                .withChanges(List.of(
+                        new EmployeeChange(1, EmployeeChange.Type.CREATED, replacement),
+                        new EmployeeChange(2, EmployeeChange.Type.CREATED, added),
+                        new EmployeeChange(3, EmployeeChange.Type.DELETED, employees.get(5))));
+
+        assertEquals(replacement, patched.findById(replacement.getId()).orElseThrow());
+        assertEquals(added, patched.findById(added.getId()).orElseThrow());
+        assertTrue(patched.findById(employees.get(5).getId()).isEmpty());
+        assertEquals(50, patched.size());
+        assertEquals(List.of(replacement), patched.search("beam", true, NameSearchIndex.UNLIMITED));
+        assertEquals(List.of(added), patched.search("Jack", false, NameSearchIndex.UNLIMITED));
+        assertEquals(1000, patched.getMaxSalary());
+        assertEquals(List.of("Jim Beam", "Jack Johnson"), patched.getTopEarnerNames().subList(0, 2));
+    }
+
+    @Test
+    void mergingTheOverlayShouldDropTitlesNoRowUses() {
+        Employee intern = copy(employee(0)).title("Intern").build();
+        List<Employee> employees = new ArrayList<>(List.of(intern));
+        IntStream.range(1, 50)
+                .mapToObj(i -> copy(employee(i)).title("Engineer").build())
+                .forEach(employees::add);
+        List<EmployeeChange> changes = new ArrayList<>();
+        changes.add(new EmployeeChange(1, EmployeeChange.Type.DELETED, intern));
+        for (int i = 0; i < 1100; i++) {
+            changes.add(new EmployeeChange(
+                    i + 2, EmployeeChange.Type.CREATED, copy(employee(i)).title("Engineer").build()));
+        }
+
+        ColumnarRoster patched = ColumnarRoster.build(employees).withChanges(changes);
+
+        assertEquals(List.of("Engineer"), Arrays.asList((String[]) ReflectionTestUtils.getField(patched, "titles")));
+        assertEquals(1149, patched.size());
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexTest {
+
+    private Employee john;
+    private Employee johnny;
+    private Employee jane;
+    private NameSearchIndex index;
+
+    private Employee employee(String name) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        john = employee("John Doe");
+        johnny = employee("Johnny Bravo");
+        jane = employee("Jane Johnson");
+        index = NameSearchIndex.build(List.of(john, johnny, jane));
+    }
+
+    @Test
+    void searchShouldMatchSubstringsInRosterOrder() {
+        assertEquals(List.of(john, johnny, jane), index.search("John", false, NameSearchIndex.UNLIMITED));
+        assertEquals(List.of(johnny), index.search("hnny", false, NameSearchIndex.UNLIMITED));
+    }
+
+    @Test
+    void searchShouldBeCaseSensitiveByDefault() {
+        assertTrue(index.search("jOHN", false, NameSearchIndex.UNLIMITED).isEmpty());
+        assertEquals(List.of(john, johnny, jane), index.search("jOHN", true, NameSearchIndex.UNLIMITED));
+    }
+
+    @Test
+    void searchShouldHandleShortFragmentsAndMisses() {
+        assertEquals(List.of(johnny), index.search("y", false, NameSearchIndex.UNLIMITED));
+        assertEquals(List.of(john), index.search("Do", false, NameSearchIndex.UNLIMITED));
+        assertTrue(index.search("Smith", false, NameSearchIndex.UNLIMITED).isEmpty());
+        assertEquals(3, index.search("", false, NameSearchIndex.UNLIMITED).size());
+    }
+
+    @Test
+    void searchShouldHonourLimit() {
+        assertEquals(List.of(john), index.search("john", true, 1));
+        assertTrue(index.search("john", true, 0).isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private final Random random = new Random(42);
+
+    private Employee employee(String name, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .build();
+    }
+
+    @Test
+    void emptyIndexShouldReportZeroAndNoNames() {
+        SalaryIndex index = SalaryIndex.build(List.of());
+
+        assertEquals(0, index.getMaxSalary());
+        assertTrue(index.getTopEarnerNames().isEmpty());
+    }
+
+    @Test
+    void buildShouldMatchStableDescendingSort() {
+        List<Employee> employees = IntStream.range(0, 100)
+                .mapToObj(i -> employee("Employee " + i, random.nextInt(50)))
+                .toList();
+
+        SalaryIndex index = SalaryIndex.build(employees);
+
+        assertEquals(expectedTopNames(employees), index.getTopEarnerNames());
+        assertEquals(
+                employees.stream().mapToInt(Employee::getSalary).max().orElseThrow(), index.getMaxSalary());
+    }
+
+    @Test
+    void appendAndRemoveShouldKeepAggregatesInSync() {
+        List<Employee> employees = new ArrayList<>();
+        SalaryIndex index = SalaryIndex.build(employees);
+
+        for (int i = 0; i < 500; i++) {
+            if (employees.isEmpty() || random.nextBoolean()) {
+                Employee added = employee("Employee " + i, random.nextInt(50));
+                employees.add(added);
+                index = index.append(added);
+            } else {
+                Employee removed = employees.remove(random.nextInt(employees.size()));
+                index = index.remove(removed);
+            }
+
+            assertEquals(expectedTopNames(employees), index.getTopEarnerNames());
+            assertEquals(
+                    employees.stream().mapToInt(Employee::getSalary).max().orElse(0), index.getMaxSalary());
+        }
+    }
+
+    private List<String> expectedTopNames(List<Employee> employees) {
+        return employees.stream()
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(SalaryIndex.TOP_K)
+                .map(Employee::getName)
+                .toList();
+    }
+}
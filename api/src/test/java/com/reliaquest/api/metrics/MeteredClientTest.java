@@ -0,0 +1,78 @@
+package com.reliaquest.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredClientTest {
+
+    private static final Request REQUEST =
+            Request.create(Request.HttpMethod.GET, "http://localhost", Map.of(), null, StandardCharsets.UTF_8, null);
+
+    @Mock
+    private Client delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MeteredClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        client = new MeteredClient(delegate, new EmployeeClientMetrics(meterRegistry));
+    }
+
+    private long count(String outcome) {
+        final var timer = meterRegistry
+                .find("employee.client.requests")
+                .tag("outcome", outcome)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private static Response response(int status) {
+        return Response.builder().status(status).request(REQUEST).headers(Map.of()).build();
+    }
+
+    @Test
+    void responsesShouldBeTimedByOutcome() throws IOException {
+        when(delegate.execute(any(), any())).thenReturn(response(200), response(429), response(404), response(503));
+
+        for (int i = 0; i < 4; i++) {
+            client.execute(REQUEST, new Request.Options());
+        }
+
+        assertEquals(1, count("success"));
+        assertEquals(1, count("429"));
+        assertEquals(1, count("4xx"));
+        assertEquals(1, count("5xx"));
+    }
+
+    @Test
+    void failuresShouldBeTimedAndRethrown() throws IOException {
+        when(delegate.execute(any(), any()))
+                .thenThrow(new RateLimitExceededException("over budget", Duration.ofSeconds(1)))
+                .thenThrow(new IOException("connection reset"));
+
+        assertThrows(RateLimitExceededException.class, () -> client.execute(REQUEST, new Request.Options()));
+        assertThrows(IOException.class, () -> client.execute(REQUEST, new Request.Options()));
+
+        assertEquals(1, count("rate_limited"));
+        assertEquals(1, count("io_error"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.api.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new AdaptiveRateLimiter(
+                1.0,
+                0.1,
+                10.0,
+                3,
+                0.5,
+                0.5,
+                1,
+                Duration.ZERO,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(8),
+                clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void shouldFailFastOnceBucketIsEmpty() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire(RequestPriority.READ);
+        }
+
+        RateLimitExceededException exception =
+                assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(RequestPriority.READ));
+        assertEquals(Duration.ofSeconds(1), exception.getRetryAfter());
+
+        advance(Duration.ofSeconds(1));
+        assertDoesNotThrow(() -> rateLimiter.acquire(RequestPriority.READ));
+    }
+
+    @Test
+    void writesShouldLeaveReadReserveInBucket() {
+        rateLimiter.acquire(RequestPriority.WRITE);
+        rateLimiter.acquire(RequestPriority.WRITE);
+
+        assertFalse(rateLimiter.tryAcquire(RequestPriority.WRITE));
+        assertTrue(rateLimiter.tryAcquire(RequestPriority.READ));
+    }
+
+    @Test
+    void headroomShouldRequireSparePermitsWithoutTakingAny() {
+        rateLimiter.acquire(RequestPriority.READ);
+
+        assertTrue(rateLimiter.hasHeadroom(RequestPriority.READ, 1));
+        assertTrue(rateLimiter.hasHeadroom(RequestPriority.READ, 1));
+        assertFalse(rateLimiter.hasHeadroom(RequestPriority.READ, 2));
+
+        rateLimiter.onThrottled(Duration.ofSeconds(5));
+        assertFalse(rateLimiter.hasHeadroom(RequestPriority.READ, 0));
+    }
+
+    @Test
+    void throttlingShouldHalveRateAndBlockUntilRetryAfter() {
+        rateLimiter.onThrottled(Duration.ofSeconds(5));
+
+        assertEquals(0.5, rateLimiter.getRate());
+        advance(Duration.ofSeconds(4));
+        assertFalse(rateLimiter.tryAcquire(RequestPriority.READ));
+
+        advance(Duration.ofSeconds(3));
+        assertTrue(rateLimiter.tryAcquire(RequestPriority.READ));
+    }
+
+    @Test
+    void successShouldGrowRateAdditivelyUpToMax() {
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.onSuccess();
+        }
+
+        assertEquals(10.0, rateLimiter.getRate());
+    }
+
+    @Test
+    void consecutiveThrottlesWithoutRetryAfterShouldBackOffExponentially() {
+        rateLimiter.onThrottled(null);
+        advance(Duration.ofSeconds(1));
+        rateLimiter.onThrottled(null);
+
+        RateLimitExceededException exception =
+                assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(RequestPriority.READ));
+        assertTrue(exception.getRetryAfter().toNanos() >= TimeUnit.SECONDS.toNanos(2));
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.request.EmployeeRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakingEmployeeClientTest {
+
+    @Mock
+    private EmployeeClient delegate;
+
+    private final Employee employee = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+    private final EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(employee), Instant.now());
+    private final EmployeeClientMetrics metrics = new EmployeeClientMetrics(new SimpleMeterRegistry());
+
+    /**
+     * Behaves like the Resilience4J breaker with the time limiter disabled: runs the call on the caller's thread and
+     * hands any failure to the fallback.
+     */
+    private static final CircuitBreaker CLOSED = new CircuitBreaker() {
+        @Override
+        public <T> T run(Supplier<T> toRun, Function<Throwable, T> fallback) {
+            try {
+                return toRun.get();
+            } catch (Throwable t) {
+                return fallback.apply(t);
+            }
+        }
+    };
+
+    private CircuitBreakingEmployeeClient client() {
+        return new CircuitBreakingEmployeeClient(
+                delegate, CLOSED, cause -> new EmployeeClientFallback(cause, snapshot, metrics));
+    }
+
+    @Test
+    void successfulCallsShouldReturnTheDelegatesResponse() {
+        final var response = new ApiResponse<>("Successfully processed request.", employee);
+        when(delegate.findById("1")).thenReturn(response);
+
+        assertSame(response, client().findById("1"));
+    }
+
+    @Test
+    void failedReadsShouldBeAnsweredByTheSnapshotFallback() {
+        when(delegate.findById(employee.getId().toString())).thenThrow(new IllegalStateException("Connection refused"));
+
+        assertEquals(employee, client().findById(employee.getId().toString()).getData());
+    }
+
+    @Test
+    void failedWritesShouldFailWithTheCause() {
+        final var cause = new IllegalStateException("Connection refused");
+        final var request = EmployeeRequest.builder().name("Jane").build();
+        when(delegate.create(request)).thenThrow(cause);
+
+        assertSame(cause, assertThrows(IllegalStateException.class, () -> client().create(request)));
+    }
+}
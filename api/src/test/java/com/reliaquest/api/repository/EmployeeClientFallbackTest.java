@@ -0,0 +1,90 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.metrics.EmployeeClientMetrics;
+import com.reliaquest.api.model.DTO.SnapshotApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.request.EmployeeRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeClientFallbackTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeClientMetrics metrics = new EmployeeClientMetrics(meterRegistry);
+    private final RateLimitExceededException cause =
+            new RateLimitExceededException("over budget", Duration.ofSeconds(1));
+
+    private final Employee employee = Employee.builder()
+            .id(UUID.randomUUID())
+            .name("John Doe")
+            .salary(100000)
+            .build();
+    private final EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(employee), Instant.now());
+
+    @Test
+    void findByIdShouldBeServedFromSnapshot() {
+        final var fallback = new EmployeeClientFallback(cause, snapshot, metrics);
+
+        final var response = fallback.findById(employee.getId().toString());
+
+        assertEquals(employee, response.getData());
+        assertEquals(snapshot.getLoadedAt(), assertInstanceOf(SnapshotApiResponse.class, response).getLoadedAt());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.client.requests")
+                        .tag("outcome", "fallback")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void findByIdShouldFailWithCauseForIdsMissingFromSnapshot() {
+        final var fallback = new EmployeeClientFallback(cause, snapshot, metrics);
+
+        // May have been created since the snapshot was loaded, so not a 404
+        assertSame(
+                cause,
+                assertThrows(
+                        RateLimitExceededException.class,
+                        () -> fallback.findById(UUID.randomUUID().toString())));
+        assertSame(cause, assertThrows(RateLimitExceededException.class, () -> fallback.findById("not-a-uuid")));
+    }
+
+    @Test
+    void pushedDownQueriesShouldBeServedFromSnapshot() {
+        final var fallback = new EmployeeClientFallback(cause, snapshot, metrics);
+
+        assertEquals(List.of(employee), fallback.searchByName("john", true, 10).getData());
+        assertEquals(100000, fallback.findMaxSalary().getData());
+        assertEquals(List.of(employee), fallback.findTopBySalary(10).getData());
+    }
+
+    @Test
+    void findByIdShouldFailWithoutSnapshot() {
+        final var fallback = new EmployeeClientFallback(cause, null, metrics);
+
+        assertSame(cause, assertThrows(RateLimitExceededException.class, () -> fallback.findById("id")));
+    }
+
+    @Test
+    void writesAndRosterLoadsShouldFailFastWithCause() {
+        final var fallback = new EmployeeClientFallback(cause, snapshot, metrics);
+
+        assertSame(cause, assertThrows(RateLimitExceededException.class, fallback::findAll));
+        assertSame(cause, assertThrows(RateLimitExceededException.class, () -> fallback.streamAll(null)));
+        assertSame(
+                cause,
+                assertThrows(
+                        RateLimitExceededException.class,
+                        () -> fallback.create(EmployeeRequest.builder().name("Jane").build())));
+    }
+}
@@ -0,0 +1,152 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.RemoteServiceException;
+import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.ratelimit.AdaptiveRateLimiter;
+import com.reliaquest.api.ratelimit.RequestPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeClientHedgerTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    @Mock
+    private AdaptiveRateLimiter rateLimiter;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private EmployeeClientHedger hedger(boolean enabled) {
+        return hedger(enabled, Duration.ofMillis(10), Duration.ofMillis(10));
+    }
+
+    private EmployeeClientHedger hedger(boolean enabled, Duration minDelay, Duration maxDelay) {
+        EmployeeClientHedger hedger =
+                new EmployeeClientHedger(employeeClient, rateLimiter, executor, enabled, 0.95, minDelay, maxDelay, 1);
+        hedger.bindTo(registry);
+        return hedger;
+    }
+
+    private void firstCallHangs() {
+        AtomicInteger calls = new AtomicInteger();
+        when(employeeClient.findById(anyString())).thenAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // As a Reactor-based transport does when its blocking call is interrupted
+                    throw new IllegalStateException("Interrupted", e);
+                }
+                return new ApiResponse<>("Too slow", null);
+            }
+            return new ApiResponse<>("Successfully processed request.", employee);
+        });
+    }
+
+    @Test
+    void slowCallShouldBeHedgedAndAnsweredByTheHedge() {
+        firstCallHangs();
+        when(rateLimiter.hasHeadroom(RequestPriority.READ, 1)).thenReturn(true);
+
+        ApiResponse<Employee> response = hedger(true).findById(employee.getId().toString());
+
+        assertEquals(employee, response.getData());
+        assertFalse(Thread.currentThread().isInterrupted());
+        verify(employeeClient, times(2)).findById(employee.getId().toString());
+        assertEquals(1, registry.get("employee.client.hedges").tag("outcome", "won").functionCounter().count());
+    }
+
+    @Test
+    void primaryAnsweringFirstShouldCancelTheHedge() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch hedgeCancelled = new CountDownLatch(1);
+        when(employeeClient.findById(anyString())).thenAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                TimeUnit.MILLISECONDS.sleep(100);
+                return new ApiResponse<>("Successfully processed request.", employee);
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                hedgeCancelled.countDown();
+            }
+            return new ApiResponse<>("Too slow", null);
+        });
+        when(rateLimiter.hasHeadroom(RequestPriority.READ, 1)).thenReturn(true);
+
+        ApiResponse<Employee> response = hedger(true).findById(employee.getId().toString());
+
+        assertEquals(employee, response.getData());
+        assertTrue(hedgeCancelled.await(5, TimeUnit.SECONDS));
+        assertEquals(1, registry.get("employee.client.hedges").tag("outcome", "sent").functionCounter().count());
+        assertEquals(0, registry.get("employee.client.hedges").tag("outcome", "won").functionCounter().count());
+    }
+
+    @Test
+    void failedCallsShouldCountTowardsTheHedgeDelay() {
+        when(employeeClient.findById(anyString())).thenThrow(new RemoteServiceException("Remote service unavailable"));
+        EmployeeClientHedger hedger = hedger(true, Duration.ofMillis(1), Duration.ofMillis(500));
+
+        for (int i = 0; i < 64; i++) {
+            assertThrows(RemoteServiceException.class, () -> hedger.findById("id"));
+        }
+
+        assertEquals(0.001, registry.get("employee.client.hedge.delay").gauge().value());
+    }
+
+    @Test
+    void slowCallShouldNotBeHedgedWithoutSpareBudget() throws Exception {
+        firstCallHangs();
+        when(rateLimiter.hasHeadroom(RequestPriority.READ, 1)).thenReturn(false);
+
+        var response = executor.submit(() -> hedger(true).findById(employee.getId().toString()));
+        TimeUnit.MILLISECONDS.sleep(50);
+        release.countDown();
+
+        assertNull(response.get(5, TimeUnit.SECONDS).getData());
+        verify(employeeClient, times(1)).findById(employee.getId().toString());
+        assertEquals(1, registry.get("employee.client.hedges").tag("outcome", "skipped").functionCounter().count());
+    }
+
+    @Test
+    void disabledHedgerShouldCallThroughOnTheCallingThread() {
+        when(employeeClient.findById("id")).thenReturn(new ApiResponse<>("Successfully processed request.", employee));
+
+        assertEquals(employee, hedger(false).findById("id").getData());
+        verifyNoInteractions(rateLimiter);
+    }
+}
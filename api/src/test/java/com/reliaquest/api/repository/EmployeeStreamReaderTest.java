@@ -0,0 +1,88 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeStreamReaderTest {
+
+    private static final String ROSTER = """
+            {
+              "data": [
+                {
+                  "id": "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507",
+                  "employee_name": "Tiger Nixon",
+                  "employee_salary": 320800,
+                  "employee_age": 61,
+                  "employee_title": "Vice Chair Executive Principal of Chief Operations Implementation Specialist",
+                  "employee_email": "tnixon@company.com"
+                },
+                {
+                  "id": "5255f1a5-f9f7-4be5-829a-134bde088d17",
+                  "employee_name": "Bill Bob",
+                  "employee_salary": 89750,
+                  "employee_age": 24,
+                  "employee_title": "Documentation Engineer",
+                  "employee_email": "billBob@company.com"
+                }
+              ],
+              "status": "Successfully processed request."
+            }
+            """;
+
+    private final EmployeeStreamReader reader = new EmployeeStreamReader(new ObjectMapper());
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void readEmployeesShouldBindEveryEmployeeAndReturnStatus() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+
+        String status = reader.readEmployees(body(ROSTER), employees::add);
+
+        assertEquals("Successfully processed request.", status);
+        assertEquals(2, employees.size());
+        assertEquals("Tiger Nixon", employees.get(0).getName());
+        assertEquals(320800, employees.get(0).getSalary());
+        assertEquals("billBob@company.com", employees.get(1).getEmail());
+    }
+
+    @Test
+    void readEmployeesShouldReturnErrorStatusWithoutData() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+
+        String status = reader.readEmployees(body("{\"status\":\"Failed to process request.\"}"), employees::add);
+
+        assertEquals("Failed to process request.", status);
+        assertTrue(employees.isEmpty());
+    }
+
+    @Test
+    void readEmployeesShouldSkipNullElementsAndKeepReading() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+
+        String status = reader.readEmployees(
+                body("{\"data\":[null,{\"employee_name\":\"Tiger Nixon\"},null],\"status\":\"OK\"}"),
+                employees::add);
+
+        assertEquals("OK", status);
+        assertEquals(List.of("Tiger Nixon"), employees.stream().map(Employee::getName).toList());
+    }
+
+    @Test
+    void readEmployeesShouldRejectElementsThatAreNotEmployees() {
+        assertThrows(
+                IOException.class,
+                () -> reader.readEmployees(body("{\"data\":[{},42],\"status\":\"OK\"}"), employee -> {}));
+    }
+}
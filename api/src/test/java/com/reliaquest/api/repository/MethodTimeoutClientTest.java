@@ -0,0 +1,89 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+@ExtendWith(MockitoExtension.class)
+class MethodTimeoutClientTest {
+
+    private static final Request.Options OPTIONS = new Request.Options(2, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, false);
+
+    @Mock
+    private Client delegate;
+
+    private MethodTimeoutClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new MethodTimeoutClient(
+                delegate, Map.of("findAll", Duration.ofSeconds(30), "findById", Duration.ofMillis(250)));
+    }
+
+    private static Request request(String method) {
+        final var metadata = new SpringMvcContract()
+                .parseAndValidateMetadata(EmployeeClient.class).stream()
+                .filter(candidate -> candidate.method().getName().equals(method))
+                .findFirst()
+                .orElseThrow();
+        final var template = new RequestTemplate().methodMetadata(metadata);
+        return Request.create(
+                Request.HttpMethod.GET, "http://localhost", Map.of(), null, StandardCharsets.UTF_8, template);
+    }
+
+    private Request.Options optionsPassedFor(Request request) throws IOException {
+        client.execute(request, OPTIONS);
+        final var options = ArgumentCaptor.forClass(Request.Options.class);
+        verify(delegate).execute(same(request), options.capture());
+        return options.getValue();
+    }
+
+    @Test
+    void overriddenMethodShouldGetItsOwnReadTimeoutOnly() throws IOException {
+        final var findById = optionsPassedFor(request("findById"));
+
+        assertEquals(250, findById.readTimeoutMillis());
+        assertEquals(2000, findById.connectTimeoutMillis());
+        assertFalse(findById.isFollowRedirects());
+    }
+
+    @Test
+    void otherMethodsShouldKeepTheConfiguredOptions() throws IOException {
+        assertSame(OPTIONS, optionsPassedFor(request("findChanges")));
+    }
+
+    @Test
+    void requestsWithoutMethodMetadataShouldKeepTheConfiguredOptions() throws IOException {
+        final var request = Request.create(
+                Request.HttpMethod.GET, "http://localhost", Map.of(), null, StandardCharsets.UTF_8, null);
+
+        assertSame(OPTIONS, optionsPassedFor(request));
+    }
+
+    @Test
+    void readTimeoutShouldSurfaceAsTheTransportException() throws IOException {
+        final var request = request("findAll");
+        final var timeout = new SocketTimeoutException("Read timed out");
+        when(delegate.execute(same(request), any())).thenThrow(timeout);
+
+        assertSame(timeout, assertThrows(SocketTimeoutException.class, () -> client.execute(request, OPTIONS)));
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import feign.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class WebClientEmployeeClientTest {
+
+    private static WebClientEmployeeClient client(Flux<DataBuffer> body) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(
+                        ClientResponse.create(HttpStatus.OK).body(body).build()))
+                .build();
+        return new WebClientEmployeeClient(webClient, Duration.ofSeconds(5));
+    }
+
+    private static DataBuffer buffer(String content) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamAllShouldDeliverTheWholeBody() throws IOException {
+        try (Response response = client(Flux.just(buffer("{\"data\":"), buffer("[]}"))).streamAll(null)) {
+            assertEquals(200, response.status());
+            assertEquals(
+                    "{\"data\":[]}",
+                    new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void streamAllShouldRethrowAFailureOnceTheReceivedBytesAreRead() throws IOException {
+        Flux<DataBuffer> body = Flux.concat(
+                Flux.just(buffer("{\"data\":[")), Flux.error(new IllegalStateException("Connection reset")));
+
+        try (Response response = client(body).streamAll(null)) {
+            InputStream stream = response.body().asInputStream();
+
+            IOException exception = assertThrows(IOException.class, stream::readAllBytes);
+            assertTrue(exception.getMessage().contains("Connection reset"));
+        }
+    }
+
+    @Test
+    void streamAllShouldHandEachBufferToTheReaderAsSoonAsItArrives() {
+        // Many small buffers, each arriving after the reader has drained the previous one
+        Flux<DataBuffer> body = Flux.range(0, 200).delayElements(Duration.ofMillis(1)).map(i -> buffer("x"));
+
+        byte[] read = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            try (Response response = client(body).streamAll(null)) {
+                return response.body().asInputStream().readAllBytes();
+            }
+        });
+
+        assertEquals("x".repeat(200), new String(read, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void closingTheStreamEarlyShouldCancelTheBody() throws IOException {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<DataBuffer> body = Flux.range(0, 100).map(i -> buffer("x")).doOnCancel(() -> cancelled.set(true));
+
+        try (Response response = client(body).streamAll(null)) {
+            assertEquals('x', response.body().asInputStream().read());
+        }
+
+        assertTrue(cancelled.get());
+    }
+}
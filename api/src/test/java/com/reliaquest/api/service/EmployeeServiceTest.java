@@ -4,23 +4,32 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.FullRosterLoader;
 import com.reliaquest.api.exception.RemoteServiceException;
 import com.reliaquest.api.exception.ResourceNotFoundException;
 import com.reliaquest.api.model.DTO.ApiResponse;
+import com.reliaquest.api.model.DTO.BatchItemResult;
 import com.reliaquest.api.model.Employee;
-import com.reliaquest.api.model.request.DeleteRequest;
 import com.reliaquest.api.model.request.EmployeeRequest;
 import com.reliaquest.api.repository.EmployeeClient;
+import com.reliaquest.api.repository.EmployeeClientCoalescer;
 import com.reliaquest.api.transformer.RequestTransformer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTest {
@@ -40,6 +49,11 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        EmployeeClientCoalescer coalescer = new EmployeeClientCoalescer(employeeClient, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(employeeService, "employeeClientCoalescer", coalescer);
+        ReflectionTestUtils.setField(
+                employeeService, "employeeSnapshotCache", new EmployeeSnapshotCache(new FullRosterLoader(coalescer)));
+
         employee1 = Employee.builder()
                 .id(UUID.randomUUID())
                 .name("John Doe")
@@ -183,6 +197,32 @@ class EmployeeServiceTest {
         assertEquals("Jane Smith", topEarners.get(0)); // Highest salary first
     }
 
+    @Test
+    void serverQueryModeShouldPushQueriesDownWithoutLoadingRoster() {
+        ReflectionTestUtils.setField(employeeService, "queryMode", QueryMode.SERVER);
+        ReflectionTestUtils.setField(employeeService, "maxSearchLimit", 1000);
+        when(employeeClient.searchByName("Smith", true, 5))
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee2)));
+        when(employeeClient.findMaxSalary()).thenReturn(new ApiResponse<>("Successfully processed request.", 120000));
+        when(employeeClient.findTopBySalary(10))
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee2, employee1)));
+
+        assertEquals(List.of(employee2), employeeService.getEmployeesByNameSearch("Smith", true, 5));
+        assertEquals(120000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Jane Smith", "John Doe"), employeeService.getTopTenHighestEarningEmployeeNames());
+        verify(employeeClient, never()).findAll();
+    }
+
+    @Test
+    void serverQueryModeShouldCapSearchesAtTheMaxSearchLimit() {
+        ReflectionTestUtils.setField(employeeService, "queryMode", QueryMode.SERVER);
+        ReflectionTestUtils.setField(employeeService, "maxSearchLimit", 1000);
+        when(employeeClient.searchByName("Smith", false, 1000))
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee2)));
+
+        assertEquals(List.of(employee2), employeeService.getEmployeesByNameSearch("Smith"));
+    }
+
     @Test
     void createEmployeeShouldReturnCreatedEmployee() {
 
@@ -200,30 +240,37 @@ class EmployeeServiceTest {
     void deleteByIdShouldReturnEmployeeString_WhenDeleted() {
 
         String employeeId = employee1.getId().toString();
-        when(employeeClient.findById(employeeId))
+        when(employeeClient.deleteById(employeeId))
                 .thenReturn(new ApiResponse<>("Successfully processed request.", employee1));
-        when(employeeClient.deleteByName(any())).thenReturn(new ApiResponse<>("Successfully processed request.", true));
 
         String result = employeeService.deleteById(employeeId);
 
         assertNotNull(result);
         assertTrue(result.contains(employee1.getName()));
-        verify(employeeClient).findById(employeeId);
-        verify(employeeClient).deleteByName(any(DeleteRequest.class));
+        verify(employeeClient).deleteById(employeeId);
+        verify(employeeClient, never()).findById(any());
+        verify(employeeClient, never()).deleteByName(any());
     }
 
     @Test
     void deleteByIdShouldThrowResourceNotFoundException_WhenEmployeeNotFound() {
 
-        String nonExistentId = "non-existent-id";
-        when(employeeClient.findById(nonExistentId))
+        String nonExistentId = UUID.randomUUID().toString();
+        when(employeeClient.deleteById(nonExistentId))
                 .thenReturn(new ApiResponse<>("Successfully processed request.", null));
 
         ResourceNotFoundException exception =
                 assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteById(nonExistentId));
 
-        verify(employeeClient).findById(nonExistentId);
-        verify(employeeClient, never()).deleteByName(any());
+        verify(employeeClient).deleteById(nonExistentId);
+    }
+
+    @Test
+    void deleteByIdShouldThrowResourceNotFoundException_WhenIdIsNotAUuid() {
+
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteById("non-existent-id"));
+
+        verifyNoInteractions(employeeClient);
     }
 
     @Test
@@ -247,19 +294,214 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void deleteByIdShouldThrowRemoteServiceExceptionWhenDeleteFails() {
+    void deleteByIdShouldPropagateRemoteServiceExceptionWhenDeleteFails() {
 
         String employeeId = employee1.getId().toString();
-        when(employeeClient.findById(employeeId))
-                .thenReturn(new ApiResponse<>("Successfully processed request.", employee1));
-        when(employeeClient.deleteByName(any()))
-                .thenReturn(new ApiResponse<>("Successfully processed request.", false));
+        when(employeeClient.deleteById(employeeId)).thenThrow(new RemoteServiceException("Remote service unavailable"));
 
         RemoteServiceException exception =
                 assertThrows(RemoteServiceException.class, () -> employeeService.deleteById(employeeId));
 
-        assertEquals("Failed to delete employee with ID: " + employeeId, exception.getMessage());
-        verify(employeeClient).findById(employeeId);
-        verify(employeeClient).deleteByName(any(DeleteRequest.class));
+        assertEquals("Remote service unavailable", exception.getMessage());
+        verify(employeeClient).deleteById(employeeId);
+    }
+
+    @Test
+    void snapshotReadsAsyncShouldCompleteOnTheCallingThreadOnceLoaded() {
+        when(employeeClient.findAll())
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee1, employee2)));
+        employeeService.getAllEmployees();
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) command -> {
+            throw new RejectedExecutionException("Executor did not accept task");
+        });
+
+        CompletableFuture<Integer> highestSalary = employeeService.getHighestSalaryOfEmployeesAsync();
+
+        assertTrue(highestSalary.isDone());
+        assertEquals(120000, highestSalary.join());
+        verify(employeeClient).findAll();
+    }
+
+    @Test
+    void getEmployeeByIdAsyncShouldCompleteExceptionallyWhenEmployeeNotFound() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) Runnable::run);
+        String employeeId = employee1.getId().toString();
+        when(employeeClient.findById(employeeId))
+                .thenReturn(new ApiResponse<>("Successfully processed request.", null));
+
+        CompletableFuture<Employee> result = employeeService.getEmployeeByIdAsync(employeeId);
+
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ResourceNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    void upstreamCallsAsyncShouldFailFastWhenTheExecutorIsSaturated() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) command -> {
+            throw new RejectedExecutionException("Executor did not accept task");
+        });
+
+        assertThrows(
+                RejectedExecutionException.class,
+                () -> employeeService.getEmployeeByIdAsync(employee1.getId().toString()));
+        verifyNoInteractions(employeeClient);
+    }
+
+    @Test
+    void createEmployeesShouldSendChunksAndReturnResultsInRequestOrder() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(employeeService, "batchSize", 2);
+        ReflectionTestUtils.setField(employeeService, "batchParallelism", 2);
+        Employee employee3 = Employee.builder().id(UUID.randomUUID()).name("Jim Beam").build();
+        List<EmployeeRequest> requests = List.of(
+                EmployeeRequest.builder().name("John Doe").build(),
+                EmployeeRequest.builder().name("Jane Smith").build(),
+                EmployeeRequest.builder().name("Jim Beam").build());
+        when(employeeClient.createAll(requests.subList(0, 2)))
+                .thenReturn(new ApiResponse<>(
+                        "Successfully processed request.",
+                        List.of(
+                                BatchItemResult.handled(0, employee1),
+                                BatchItemResult.failed(1, "salary must not be null"))));
+        when(employeeClient.createAll(requests.subList(2, 3)))
+                .thenReturn(new ApiResponse<>(
+                        "Successfully processed request.", List.of(BatchItemResult.handled(0, employee3))));
+
+        List<BatchItemResult<Employee>> results = employeeService.createEmployees(requests);
+
+        assertEquals(List.of(0, 1, 2), results.stream().map(BatchItemResult::getIndex).toList());
+        assertEquals(employee1, results.get(0).getData());
+        assertFalse(results.get(1).isHandled());
+        assertEquals("salary must not be null", results.get(1).getError());
+        assertEquals(employee3, results.get(2).getData());
+        verify(employeeClient, times(2)).createAll(any());
+    }
+
+    @Test
+    void createEmployeesShouldFailEveryItemOfAFailedChunk() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(employeeService, "batchSize", 2);
+        ReflectionTestUtils.setField(employeeService, "batchParallelism", 1);
+        List<EmployeeRequest> requests = List.of(
+                EmployeeRequest.builder().name("John Doe").build(),
+                EmployeeRequest.builder().name("Jane Smith").build());
+        when(employeeClient.createAll(requests)).thenThrow(new RemoteServiceException("Remote service error"));
+
+        List<BatchItemResult<Employee>> results = employeeService.createEmployees(requests);
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().noneMatch(BatchItemResult::isHandled));
+        assertEquals("Remote service error", results.get(1).getError());
+    }
+
+    @Test
+    void createEmployeesShouldFailItemsAShortResponseLeavesUnanswered() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(employeeService, "batchSize", 500);
+        ReflectionTestUtils.setField(employeeService, "batchParallelism", 1);
+        List<EmployeeRequest> requests = List.of(
+                EmployeeRequest.builder().name("John Doe").build(),
+                EmployeeRequest.builder().name("Jane Smith").build());
+        when(employeeClient.createAll(requests))
+                .thenReturn(new ApiResponse<>(
+                        "Successfully processed request.", List.of(BatchItemResult.handled(0, employee1))));
+
+        List<BatchItemResult<Employee>> results = employeeService.createEmployees(requests);
+
+        assertEquals(List.of(0, 1), results.stream().map(BatchItemResult::getIndex).toList());
+        assertEquals(employee1, results.get(0).getData());
+        assertFalse(results.get(1).isHandled());
+        assertEquals("Remote service returned no result for this item", results.get(1).getError());
+    }
+
+    @Test
+    void deleteEmployeesByIdShouldDropOutOfRangeAndRepeatedResults() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(employeeService, "batchSize", 500);
+        ReflectionTestUtils.setField(employeeService, "batchParallelism", 1);
+        when(employeeClient.deleteAllById(List.of(employee1.getId(), employee2.getId())))
+                .thenReturn(new ApiResponse<>(
+                        "Successfully processed request.",
+                        List.of(
+                                BatchItemResult.handled(5, employee2),
+                                BatchItemResult.handled(-1, employee2),
+                                BatchItemResult.handled(0, employee1),
+                                BatchItemResult.handled(0, employee2))));
+
+        List<BatchItemResult<String>> results = assertDoesNotThrow(() -> employeeService.deleteEmployeesById(
+                List.of(employee1.getId().toString(), employee2.getId().toString())));
+
+        assertEquals(List.of(0, 1), results.stream().map(BatchItemResult::getIndex).toList());
+        assertEquals("John Doe", results.get(0).getData());
+        assertFalse(results.get(1).isHandled());
+        assertEquals("Remote service returned no result for this item", results.get(1).getError());
+    }
+
+    @Test
+    void deleteEmployeesByIdShouldSendIdsAndEvictDeleted() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(employeeService, "batchSize", 500);
+        ReflectionTestUtils.setField(employeeService, "batchParallelism", 2);
+        when(employeeClient.findAll())
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee1, employee2)));
+        employeeService.getAllEmployees();
+        UUID unknown = UUID.randomUUID();
+        when(employeeClient.deleteAllById(List.of(employee1.getId(), unknown)))
+                .thenReturn(new ApiResponse<>(
+                        "Successfully processed request.",
+                        List.of(BatchItemResult.handled(0, employee1), BatchItemResult.handled(1, null))));
+
+        List<BatchItemResult<String>> results = employeeService.deleteEmployeesById(
+                List.of(employee1.getId().toString(), "not-a-uuid", unknown.toString()));
+
+        assertEquals("John Doe", results.get(0).getData());
+        assertFalse(results.get(1).isHandled());
+        assertFalse(results.get(2).isHandled());
+        assertEquals("Employee not found with ID: " + unknown, results.get(2).getError());
+        assertEquals(List.of(employee2), employeeService.getAllEmployees());
+    }
+
+    @Test
+    void deleteEmployeesByIdShouldDeleteExactlyTheGivenEmployeesWhenNamesAreShared() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(employeeService, "batchSize", 500);
+        ReflectionTestUtils.setField(employeeService, "batchParallelism", 2);
+        Employee olderJohn = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+        when(employeeClient.findAll())
+                .thenReturn(new ApiResponse<>(
+                        "Successfully processed request.", List.of(olderJohn, employee1, employee2)));
+        employeeService.getAllEmployees();
+        when(employeeClient.deleteAllById(List.of(employee1.getId(), employee1.getId())))
+                .thenReturn(new ApiResponse<>(
+                        "Successfully processed request.",
+                        List.of(BatchItemResult.handled(0, employee1), BatchItemResult.handled(1, null))));
+
+        List<BatchItemResult<String>> results = employeeService.deleteEmployeesById(
+                List.of(employee1.getId().toString(), employee1.getId().toString()));
+
+        assertEquals("John Doe", results.get(0).getData());
+        assertFalse(results.get(1).isHandled());
+        assertEquals(List.of(olderJohn, employee2), employeeService.getAllEmployees());
+        verify(employeeClient, never()).deleteByName(any());
+    }
+
+    @Test
+    void deleteEmployeesByIdShouldDeleteEmployeesTheSnapshotHasNotSeen() {
+        ReflectionTestUtils.setField(employeeService, "employeeTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(employeeService, "batchSize", 500);
+        ReflectionTestUtils.setField(employeeService, "batchParallelism", 2);
+        when(employeeClient.findAll())
+                .thenReturn(new ApiResponse<>("Successfully processed request.", List.of(employee2)));
+        employeeService.getAllEmployees();
+        when(employeeClient.deleteAllById(List.of(employee1.getId())))
+                .thenReturn(new ApiResponse<>(
+                        "Successfully processed request.", List.of(BatchItemResult.handled(0, employee1))));
+
+        List<BatchItemResult<String>> results =
+                employeeService.deleteEmployeesById(List.of(employee1.getId().toString()));
+
+        assertTrue(results.get(0).isHandled());
+        assertEquals("John Doe", results.get(0).getData());
+        assertEquals(List.of(employee2), employeeService.getAllEmployees());
     }
 }
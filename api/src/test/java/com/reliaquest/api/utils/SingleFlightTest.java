@@ -0,0 +1,70 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsWithSameKeyShouldShareOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("findAll", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        while (singleFlight.executedCount() + singleFlight.coalescedCount() < 8) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertEquals(42, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, singleFlight.executedCount());
+        assertEquals(7, singleFlight.coalescedCount());
+    }
+
+    @Test
+    void failuresShouldPropagateAndReleaseTheKey() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> singleFlight.execute("id", () -> {
+            throw failure;
+        })));
+        assertEquals(7, singleFlight.execute("id", () -> 7));
+        assertEquals(2, singleFlight.executedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.model.DTO.SnapshotApiResponse;
+import com.reliaquest.api.utils.ApiResponses;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class SnapshotStalenessAdviceTest {
+
+    private Instant loadedAt = Instant.now();
+
+    private final EmployeeSnapshotCache cache =
+            new EmployeeSnapshotCache(() -> EmployeeSnapshot.of(List.of(), loadedAt));
+    private final SnapshotStalenessAdvice advice = new SnapshotStalenessAdvice(cache, Duration.ofSeconds(60));
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employee");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private MockHttpServletResponse write() {
+        final var serverRequest = new ServletServerHttpRequest(request);
+        final var serverResponse = new ServletServerHttpResponse(response);
+        advice.beforeBodyWrite(List.of(), null, MediaType.APPLICATION_JSON, null, serverRequest, serverResponse);
+        serverResponse.flush();
+        return response;
+    }
+
+    @Test
+    void freshSnapshotShouldNotBeFlagged() {
+        cache.get();
+
+        assertNull(write().getHeader(SnapshotStalenessAdvice.STALE_HEADER));
+    }
+
+    @Test
+    void snapshotOlderThanStaleAfterShouldBeFlaggedWithItsAge() {
+        loadedAt = Instant.now().minusSeconds(90);
+        cache.get();
+
+        assertEquals("true", write().getHeader(SnapshotStalenessAdvice.STALE_HEADER));
+        assertTrue(Long.parseLong(response.getHeader(HttpHeaders.AGE)) >= 90);
+    }
+
+    @Test
+    void readAnsweredByTheFallbackShouldBeFlaggedWhateverItsAge() {
+        cache.get();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        ApiResponses.unwrap(new SnapshotApiResponse<>(ApiResponses.SUCCESS_STATUS, 42, Instant.now()));
+
+        assertEquals("true", write().getHeader(SnapshotStalenessAdvice.STALE_HEADER));
+        assertEquals("0", response.getHeader(HttpHeaders.AGE));
+    }
+
+    @Test
+    void writesShouldNotBeFlagged() {
+        loadedAt = Instant.now().minusSeconds(90);
+        cache.get();
+        request.setMethod("POST");
+
+        assertNull(write().getHeader(SnapshotStalenessAdvice.STALE_HEADER));
+    }
+}
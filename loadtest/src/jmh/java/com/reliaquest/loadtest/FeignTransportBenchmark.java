@@ -0,0 +1,133 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.server.ServerApplication;
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import feign.Response;
+import feign.hc5.ApacheHttp5Client;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Round-trip latency of the two Feign transports the api can use for {@code EmployeeClient}, against an in-process
+ * mock server with rate limiting disabled and response compression on: the JDK {@code HttpURLConnection} client
+ * ({@code url-connection}) and the pooled Apache HttpClient 5 ({@code hc5}), which also negotiates gzip.
+ *
+ * <p>Bodies are read to the end but not decoded, so only the transport differs. {@code findAll} transfers the whole
+ * roster of {@code employees}; {@code findById} is a small 404 that isolates connection handling. Run with
+ * {@code ./gradlew :loadtest:jmh -Pjmh.includes=FeignTransportBenchmark}; the sampled percentiles of each transport
+ * land in {@code loadtest/build/results/jmh}, and the p99 of {@code findById} is the figure to check the
+ * {@code employee.client.read-timeouts} overrides against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class FeignTransportBenchmark {
+
+    /**
+     * Minimal view of the mock server's employee resource in Feign's own contract, returning undecoded responses.
+     */
+    interface RawEmployeeClient {
+
+        @RequestLine("GET")
+        Response findAll();
+
+        @RequestLine("GET /{id}")
+        Response findById(@feign.Param("id") String id);
+    }
+
+    @Param({"url-connection", "hc5"})
+    private String transport;
+
+    @Param({"1000"})
+    private int employees;
+
+    private ConfigurableApplicationContext server;
+    private CloseableHttpClient httpClient;
+    private RawEmployeeClient client;
+    private final String missingId = UUID.randomUUID().toString();
+
+    @Setup
+    public void setUp() {
+        server = new SpringApplicationBuilder(ServerApplication.class)
+                .properties("spring.config.name=loadtest-server")
+                .run(
+                        "--server.port=0",
+                        "--mock.rate-limit.strategy=disabled",
+                        "--mock.employees.max=" + employees,
+                        "--logging.level.com.reliaquest=WARN");
+        final var port = ((WebServerApplicationContext) server).getWebServer().getPort();
+
+        final Client delegate;
+        if ("hc5".equals(transport)) {
+            httpClient = HttpClients.custom()
+                    .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                            .setMaxConnPerRoute(50)
+                            .setMaxConnTotal(200)
+                            .build())
+                    .build();
+            delegate = new ApacheHttp5Client(httpClient);
+        } else {
+            delegate = new Client.Default(null, null);
+        }
+        client = Feign.builder()
+                .client(delegate)
+                .target(RawEmployeeClient.class, "http://localhost:%d/api/v1/employee".formatted(port));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.close();
+    }
+
+    @Benchmark
+    public long findAll() throws IOException {
+        return drain(client.findAll());
+    }
+
+    @Benchmark
+    public long findById() throws IOException {
+        return drain(client.findById(missingId));
+    }
+
+    private static long drain(Response response) throws IOException {
+        try (response) {
+            if (response.body() == null) {
+                return 0;
+            }
+            try (InputStream body = response.body().asInputStream()) {
+                return body.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.loadtest;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+
+/**
+ * Latencies and outcomes of one endpoint; safe to record into from every worker thread at once.
+ */
+class EndpointStats {
+
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientError = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder serverError = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (status == 429) {
+            throttled.increment();
+        } else if (status >= 500) {
+            serverError.increment();
+        } else if (status >= 400) {
+            clientError.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    /**
+     * Records a request that got no response, e.g. on a connection error, a timeout or an unusable request.
+     */
+    void recordFailure(long latencyNanos) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        failed.increment();
+    }
+
+    static EndpointStats total(Collection<EndpointStats> endpoints) {
+        final var total = new EndpointStats();
+        for (final var endpoint : endpoints) {
+            total.latencies.add(endpoint.latencies);
+            total.success.add(endpoint.success.sum());
+            total.clientError.add(endpoint.clientError.sum());
+            total.throttled.add(endpoint.throttled.sum());
+            total.serverError.add(endpoint.serverError.sum());
+            total.failed.add(endpoint.failed.sum());
+        }
+        return total;
+    }
+
+    LoadReport.EndpointResult result(double seconds) {
+        final var histogram = latencies.copy();
+        final long count = histogram.getTotalCount();
+        return new LoadReport.EndpointResult(
+                count,
+                seconds > 0 ? count / seconds : 0,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                success.sum(),
+                clientError.sum(),
+                throttled.sum(),
+                serverError.sum(),
+                failed.sum());
+    }
+}
@@ -0,0 +1,211 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Closed-loop load generator: each of {@code concurrency} workers issues one request at a time, picking the endpoint
+ * from the weighted mix. Creates feed the ids that deletes consume, so the roster size stays roughly stable.
+ */
+@Slf4j
+class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SEED_ATTEMPTS = 30;
+
+    private final URI baseUri;
+    private final LoadTestOptions options;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final ConcurrentLinkedQueue<String> createdIds = new ConcurrentLinkedQueue<>();
+    private final Operation[] weightedOperations;
+
+    private List<String> ids = List.of();
+    private List<String> nameFragments = List.of();
+
+    LoadGenerator(URI baseUri, LoadTestOptions options) {
+        this.baseUri = baseUri;
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        final var operations = new ArrayList<Operation>();
+        for (final var operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+            for (int i = 0; i < options.mix().getOrDefault(operation, 0); i++) {
+                operations.add(operation);
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix must give at least one operation a positive weight");
+        }
+        this.weightedOperations = operations.toArray(Operation[]::new);
+    }
+
+    LoadReport run() throws Exception {
+        loadRoster();
+        final long start = System.nanoTime();
+        final long measureFrom = start + options.warmup().toNanos();
+        final long stopAt = measureFrom + options.duration().toNanos();
+        log.info("Warming up for {}, then measuring for {}", options.warmup(), options.duration());
+
+        final ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (int worker = 0; worker < options.concurrency(); worker++) {
+                final var random = new Random(options.seed() + worker);
+                futures.add(workers.submit(() -> drive(random, measureFrom, stopAt)));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        final double seconds = options.duration().toNanos() / 1e9;
+        final var endpoints = new EnumMap<Operation, LoadReport.EndpointResult>(Operation.class);
+        stats.forEach((operation, endpoint) -> endpoints.put(operation, endpoint.result(seconds)));
+        return new LoadReport(
+                options.concurrency(),
+                seconds,
+                endpoints,
+                EndpointStats.total(stats.values()).result(seconds));
+    }
+
+    private void drive(Random random, long measureFrom, long stopAt) {
+        long now;
+        while ((now = System.nanoTime()) < stopAt) {
+            var operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            final var deleteId = operation == Operation.DELETE ? createdIds.poll() : null;
+            if (operation == Operation.DELETE && deleteId == null) {
+                operation = Operation.CREATE;
+            }
+            final boolean measured = now >= measureFrom;
+            try {
+                final var request = request(operation, random, deleteId);
+                final var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (measured) {
+                    stats.get(operation).record(System.nanoTime() - now, response.statusCode());
+                }
+                if (operation == Operation.CREATE && response.statusCode() / 100 == 2) {
+                    rememberCreated(response.body());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("{} request failed: {}", operation, e.toString());
+                if (measured) {
+                    stats.get(operation).recordFailure(System.nanoTime() - now);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation, Random random, String deleteId) {
+        final var builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (operation) {
+            case GET_ALL -> builder.uri(baseUri).GET().build();
+            case SEARCH -> builder.uri(resolve("search", pick(nameFragments, random)))
+                    .GET()
+                    .build();
+            case GET_BY_ID -> builder.uri(resolve(pick(ids, random))).GET().build();
+            case HIGHEST_SALARY -> builder.uri(resolve("highestSalary")).GET().build();
+            case TOP_TEN -> builder.uri(resolve("topTenHighestEarningEmployeeNames"))
+                    .GET()
+                    .build();
+            case CREATE -> builder.uri(baseUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody(random)))
+                    .build();
+            case DELETE -> builder.uri(resolve(deleteId)).DELETE().build();
+        };
+    }
+
+    /**
+     * Appends the segments to the base URI, percent-encoding each one, so names with spaces or reserved characters
+     * reach the server as a single path segment.
+     */
+    private URI resolve(String... segments) {
+        final var path = new StringBuilder(baseUri.toString());
+        for (final var segment : segments) {
+            path.append('/').append(URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+        return URI.create(path.toString());
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private String createBody(Random random) {
+        final var employee = objectMapper.createObjectNode();
+        employee.put("name", "Load Test " + Long.toHexString(random.nextLong()));
+        employee.put("salary", 30000 + random.nextInt(470000));
+        employee.put("age", 16 + random.nextInt(59));
+        employee.put("title", "Load Tester");
+        return employee.toString();
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            final var id = objectMapper.readTree(body).path("id");
+            if (id.isTextual()) {
+                createdIds.add(id.asText());
+            }
+        } catch (IOException e) {
+            log.debug("Could not read id of created employee: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * The first roster read can be throttled by the mock server, so retry until ids and names are known.
+     */
+    private void loadRoster() throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(baseUri).timeout(REQUEST_TIMEOUT).GET().build();
+        for (int attempt = 1; attempt <= SEED_ATTEMPTS; attempt++) {
+            final var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                final var employees = objectMapper.readTree(response.body());
+                final var loadedIds = new ArrayList<String>();
+                final var fragments = new ArrayList<String>();
+                for (final JsonNode employee : employees) {
+                    loadedIds.add(employee.path("id").asText());
+                    final var name = employee.path("employee_name").asText();
+                    fragments.add(name.substring(0, Math.min(3, name.length())));
+                }
+                if (!loadedIds.isEmpty()) {
+                    ids = List.copyOf(loadedIds);
+                    nameFragments = List.copyOf(fragments);
+                    log.info("Loaded {} employees to drive id and name lookups", ids.size());
+                    return;
+                }
+            }
+            log.info("Roster not available yet (status {}), retrying", response.statusCode());
+            TimeUnit.SECONDS.sleep(1);
+        }
+        throw new IllegalStateException("Could not load the roster from " + baseUri);
+    }
+}
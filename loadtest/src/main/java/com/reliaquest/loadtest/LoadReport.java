@@ -0,0 +1,64 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Outcome of a load test run. Latencies are in milliseconds and only cover requests started after warm-up.
+ */
+public record LoadReport(
+        int concurrency, double durationSeconds, Map<Operation, EndpointResult> endpoints, EndpointResult total) {
+
+    public record EndpointResult(
+            long count,
+            double requestsPerSecond,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max,
+            long success,
+            long clientError,
+            long throttled,
+            long serverError,
+            long failed) {}
+
+    public void print(PrintStream out) {
+        out.printf("concurrency=%d, duration=%.1fs%n", concurrency, durationSeconds);
+        out.printf(
+                "%-16s %9s %9s %9s %9s %9s %9s %9s %8s %6s %6s %6s %6s%n",
+                "endpoint", "count", "req/s", "p50", "p90", "p99", "p99.9", "max", "2xx", "4xx", "429", "5xx", "fail");
+        endpoints.forEach((operation, result) -> print(out, operation.key(), result));
+        print(out, "total", total);
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+    }
+
+    private static void print(PrintStream out, String name, EndpointResult result) {
+        out.printf(
+                "%-16s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d %6d %6d %6d %6d%n",
+                name,
+                result.count(),
+                result.requestsPerSecond(),
+                result.p50(),
+                result.p90(),
+                result.p99(),
+                result.p999(),
+                result.max(),
+                result.success(),
+                result.clientError(),
+                result.throttled(),
+                result.serverError(),
+                result.failed());
+    }
+}
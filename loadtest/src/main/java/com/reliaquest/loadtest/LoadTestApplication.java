@@ -0,0 +1,69 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the mock server and the api in this JVM on random ports, drives mixed traffic across every employee endpoint
+ * and prints latency percentiles and throughput, also written as JSON to {@code --output}.
+ *
+ * <p>Each application reads its own {@code loadtest-*.yml} because both ship an {@code application.yml} at the same
+ * classpath location. Settings can be overridden per application, e.g. to compare the blocking and async controllers
+ * under a sliding-window limit:
+ *
+ * <pre>
+ * --concurrency=64 --server:mock.rate-limit.strategy=sliding-window --api:employee.api.async=true
+ * </pre>
+ */
+@Slf4j
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {}
+
+    public static void main(String[] args) throws Exception {
+        final var options = LoadTestOptions.parse(args);
+        try (var server = start(ServerApplication.class, "loadtest-server", options.serverArgs())) {
+            final var baseUrl = "http://localhost:%d/api/v1/employee".formatted(port(server));
+            final var apiArgs = withDefault(options.apiArgs(), "employee.service.base-url", baseUrl);
+            try (var api = start(ApiApplication.class, "loadtest-api", apiArgs)) {
+                final var baseUri = URI.create("http://localhost:%d/api/employee".formatted(port(api)));
+                final var report = new LoadGenerator(baseUri, options).run();
+                report.print(System.out);
+                report.write(options.output());
+                log.info("Wrote load test report to {}", options.output().toAbsolutePath());
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Class<?> application, String configName, List<String> args) {
+        return new SpringApplicationBuilder(application)
+                .properties("spring.config.name=" + configName)
+                .run(withDefault(args, "server.port", "0").toArray(String[]::new));
+    }
+
+    /*
+     * Repeating an option on the command line joins the values instead of overriding, so only add a default when the
+     * caller has not set the option.
+     */
+    private static List<String> withDefault(List<String> args, String name, String value) {
+        final var option = "--" + name + "=";
+        if (args.stream().anyMatch(arg -> arg.startsWith(option))) {
+            return args;
+        }
+        final var withDefault = new ArrayList<String>(args.size() + 1);
+        withDefault.add(option + value);
+        withDefault.addAll(args);
+        return withDefault;
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command line options. Harness options are {@code --name=value}; {@code --server:key=value} and
+ * {@code --api:key=value} are forwarded as {@code --key=value} to the mock server and the api respectively.
+ */
+public record LoadTestOptions(
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        Map<Operation, Integer> mix,
+        Path output,
+        List<String> serverArgs,
+        List<String> apiArgs) {
+
+    private static final String SERVER_PREFIX = "--server:";
+    private static final String API_PREFIX = "--api:";
+
+    public static LoadTestOptions parse(String... args) {
+        int concurrency = 16;
+        var warmup = Duration.ofSeconds(10);
+        var duration = Duration.ofSeconds(30);
+        long seed = 42;
+        final var mix = new EnumMap<Operation, Integer>(Operation.class);
+        for (final var operation : Operation.values()) {
+            mix.put(operation, operation.getDefaultWeight());
+        }
+        var output = Path.of("build", "results", "loadtest", "report.json");
+        final var serverArgs = new ArrayList<String>();
+        final var apiArgs = new ArrayList<String>();
+
+        for (final var arg : args) {
+            if (arg.startsWith(SERVER_PREFIX)) {
+                serverArgs.add("--" + arg.substring(SERVER_PREFIX.length()));
+                continue;
+            }
+            if (arg.startsWith(API_PREFIX)) {
+                apiArgs.add("--" + arg.substring(API_PREFIX.length()));
+                continue;
+            }
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            final var name = arg.substring(2, separator);
+            final var value = arg.substring(separator + 1);
+            switch (name) {
+                case "concurrency" -> concurrency = Integer.parseInt(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "mix" -> parseMix(value, mix);
+                case "output" -> output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + name);
+            }
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        return new LoadTestOptions(
+                concurrency,
+                warmup,
+                duration,
+                seed,
+                Map.copyOf(mix),
+                output,
+                List.copyOf(serverArgs),
+                List.copyOf(apiArgs));
+    }
+
+    /*
+     * Operations left out of an explicit mix get no traffic, e.g. --mix=get-by-id:1,search:1.
+     */
+    private static void parseMix(String value, Map<Operation, Integer> mix) {
+        mix.replaceAll((operation, weight) -> 0);
+        for (final var entry : value.split(",")) {
+            final var parts = entry.split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight but got: " + entry);
+            }
+            mix.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+    }
+}
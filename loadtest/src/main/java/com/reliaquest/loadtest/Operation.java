@@ -0,0 +1,38 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The seven {@code IEmployeeController} endpoints, with the share of traffic each gets by default.
+ */
+public enum Operation {
+    GET_ALL(20),
+    SEARCH(20),
+    GET_BY_ID(25),
+    HIGHEST_SALARY(10),
+    TOP_TEN(10),
+    CREATE(10),
+    DELETE(5);
+
+    private final int defaultWeight;
+
+    Operation(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key().equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + key));
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.limit.RateLimitStrategy;
+import com.reliaquest.server.web.limit.RequestLimiter;
+import java.time.Duration;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * An unset limit or window is drawn at random, as the mock always did, but from `mock.rate-limit.seed` so a run can be
+ * reproduced; the effective profile is logged at startup.
+ */
+@Slf4j
+@Configuration
+public class RateLimitConfiguration {
+
+    @Bean
+    public RequestLimiter requestLimiter(
+            @Value("${mock.rate-limit.strategy:fixed-window}") RateLimitStrategy strategy,
+            @Value("${mock.rate-limit.seed:#{null}}") Long seed,
+            @Value("${mock.rate-limit.limit:0}") int limit,
+            @Value("${mock.rate-limit.window:#{null}}") Duration window) {
+        final long effectiveSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        final var random = new Random(effectiveSeed);
+        final int effectiveLimit = limit > 0 ? limit : random.nextInt(5, 10);
+        final var effectiveWindow = window != null ? window : Duration.ofSeconds(random.nextInt(30, 90));
+        log.info(
+                "Request rate limit: strategy={}, limit={}, window={}, seed={}",
+                strategy,
+                effectiveLimit,
+                effectiveWindow,
+                effectiveSeed);
+        return strategy.create(effectiveLimit, effectiveWindow, System::nanoTime);
+    }
+}
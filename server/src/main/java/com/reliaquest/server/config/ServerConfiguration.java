@@ -1,19 +1,30 @@
 package com.reliaquest.server.config;
 
+import com.reliaquest.server.fixture.MockEmployeeGenerator;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.RosterPersistence;
+import com.reliaquest.server.persistence.RosterSnapshotFile;
+import com.reliaquest.server.store.MockEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.web.limit.RequestLimiter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,20 +32,72 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final RequestLimiter requestLimiter;
+
+    @Value("${mock.rate-limit.per-client:true}")
+    private boolean perClientRateLimit;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty("mock.persistence.enabled")
+    public RosterPersistence rosterPersistence(
+            @Value("${mock.persistence.directory:data}") Path directory,
+            @Value("${mock.persistence.fsync-interval:100ms}") Duration fsyncInterval,
+            @Value("${mock.persistence.snapshot-interval:5m}") Duration snapshotInterval) {
+        return new RosterPersistence(directory, fsyncInterval, snapshotInterval);
+    }
+
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. With persistence enabled it is restored from disk when
+     * there is anything to restore; otherwise it is loaded from the fixture file if one is configured, and generated
+     * if not. Setting a seed switches generation to the parallel, reproducible generator, which large rosters need.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeStore mockEmployeeStore(
+            Faker faker,
+            ObjectProvider<RosterPersistence> rosterPersistence,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.fixture:#{null}}") Path fixture,
+            @Value("${mock.changes.retention:" + MockEmployeeStore.DEFAULT_CHANGE_RETENTION + "}")
+                    int changeRetention) {
+        final var persistence = rosterPersistence.getIfAvailable();
+        final var store = Optional.ofNullable(persistence)
+                .flatMap(RosterPersistence::recover)
+                .or(() -> Optional.ofNullable(fixture).map(ServerConfiguration::readFixture))
+                .map(restored -> new MockEmployeeStore(restored, changeRetention))
+                .orElseGet(() -> new MockEmployeeStore(
+                        seed != null
+                                ? new MockEmployeeGenerator(seed, Locale.getDefault()).generate(maxEmployees)
+                                : generate(faker, maxEmployees),
+                        changeRetention));
+        if (persistence != null) {
+            persistence.attach(store);
+        }
+        return store;
+    }
+
+    private static MockEmployeeStore.Checkpoint readFixture(Path fixture) {
+        try {
+            // Every server started from the same fixture must still hand out its own tags
+            final var checkpoint = RosterSnapshotFile.read(fixture).withNewEpoch();
+            log.info("Loaded {} employees from fixture {}", checkpoint.employees().size(), fixture);
+            return checkpoint;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load roster fixture " + fixture, e);
+        }
+    }
+
+    private static List<MockEmployee> generate(Faker faker, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -48,12 +111,11 @@ public class ServerConfiguration implements WebMvcConfigurer {
                                 faker.twitter().userName().toLowerCase())));
         return IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .toList();
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new RandomRequestLimitInterceptor(requestLimiter, perClientRateLimit));
     }
 }
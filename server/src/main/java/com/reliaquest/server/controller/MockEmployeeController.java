@@ -1,14 +1,20 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.model.MockEmployeeProjection;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,9 +26,102 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    @Value("${mock.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${mock.page.max-limit:1000}")
+    private int maxPageLimit;
+
+    /*
+     * The ETag is the roster version, so a client revalidating with If-None-Match gets a bodiless 304 until the next
+     * create or delete.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final var current = mockEmployeeService.getRosterVersion();
+        if (ifNoneMatch != null && matches(ifNoneMatch, current)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+        }
+        final var roster = mockEmployeeService.getMockEmployees();
+        return ResponseEntity.ok().eTag(roster.tag()).body(Response.handledWith(roster.value()));
+    }
+
+    /*
+     * Cursor pagination in ID order: pass the previous page's `next` as `after`. `fields` projects each employee onto
+     * the given serialized field names, e.g. fields=employee_name,employee_salary.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<Response<MockEmployeePage>> getEmployeePage(
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "after", required = false) UUID after,
+            @RequestParam(value = "fields", required = false) String fields) {
+        if (limit < 1 || limit > maxPageLimit) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and %d".formatted(maxPageLimit)));
+        }
+        final MockEmployeeProjection projection;
+        try {
+            projection = fields != null ? MockEmployeeProjection.parse(fields) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
+
+        // One extra row tells whether another page follows
+        final var employees = mockEmployeeService.getMockEmployeePage(after, limit + 1);
+        final var page = employees.size() > limit ? employees.subList(0, limit) : employees;
+        final var next = employees.size() > limit ? page.get(page.size() - 1).getId() : null;
+        final List<?> body = projection != null
+                ? page.stream().map(projection::apply).toList()
+                : page;
+        return ResponseEntity.ok(Response.handledWith(new MockEmployeePage(body, next)));
+    }
+
+    /*
+     * Query pushdown: answered from the indexes the store maintains on every write, so callers need not pull the
+     * roster. Like a page, a search returns at most mock.page.max-limit employees, which is also the default limit.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Response<List<MockEmployee>>> searchEmployees(
+            @RequestParam("name") String name,
+            @RequestParam(value = "ignoreCase", defaultValue = "false") boolean ignoreCase,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        final int max = limit != null ? limit : maxPageLimit;
+        if (max < 1 || max > maxPageLimit) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and %d".formatted(maxPageLimit)));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.searchByName(name, ignoreCase, max)));
+    }
+
+    @GetMapping("/salary/max")
+    public Response<Integer> getHighestSalary() {
+        return Response.handledWith(mockEmployeeService.getHighestSalary().orElse(0));
+    }
+
+    @GetMapping("/salary/top")
+    public ResponseEntity<Response<List<MockEmployee>>> getTopEarners(
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (limit < 1 || limit > maxPageLimit) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and %d".formatted(maxPageLimit)));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getTopEarners(limit)));
+    }
+
+    /*
+     * Change feed for incremental replication: `since` is the version of the client's copy, e.g. from its ETag. A reset
+     * means the log has moved past it and the full roster must be reloaded.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(
+            @RequestParam("since") long since,
+            @RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        if (limit < 1 || limit > maxPageLimit) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and %d".formatted(maxPageLimit)));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getChangesSince(since, limit)));
     }
 
     @GetMapping("/{id}")
@@ -42,4 +141,66 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /*
+     * Batches are validated per item and count as one request against the rate limit.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        if (inputs.size() > maxBatchSize) {
+            return tooLarge(inputs.size());
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.createAll(inputs)));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<Boolean>>>> deleteEmployees(
+            @RequestBody List<DeleteMockEmployeeInput> inputs) {
+        if (inputs.size() > maxBatchSize) {
+            return tooLarge(inputs.size());
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.deleteAll(inputs)));
+    }
+
+    /*
+     * Deletes exactly the employees with the given IDs; an ID with no employee is handled without data.
+     */
+    @DeleteMapping("/batch/ids")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> deleteEmployeesById(
+            @RequestBody List<UUID> ids) {
+        if (ids.size() > maxBatchSize) {
+            return tooLarge(ids.size());
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.deleteAllById(ids)));
+    }
+
+    private static boolean matches(String ifNoneMatch, String tag) {
+        for (final var candidate : ifNoneMatch.split(",")) {
+            var value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals('"' + tag + '"')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> ResponseEntity<Response<T>> tooLarge(int size) {
+        return ResponseEntity.badRequest()
+                .body(Response.error("Batch of %d items exceeds the limit of %d".formatted(size, maxBatchSize)));
+    }
 }
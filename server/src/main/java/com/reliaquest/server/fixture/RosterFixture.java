@@ -0,0 +1,43 @@
+package com.reliaquest.server.fixture;
+
+import com.reliaquest.server.persistence.RosterSnapshotFile;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a generated roster to a binary snapshot file that the server loads at startup with
+ * {@code mock.employees.fixture}, e.g. {@code ./gradlew :server:generateRoster -ProsterCount=500000}.
+ *
+ * <p>Arguments: output file, employee count, seed.
+ */
+public final class RosterFixture {
+
+    private RosterFixture() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: RosterFixture <file> <count> <seed>");
+            System.exit(2);
+        }
+        final var file = Path.of(args[0]).toAbsolutePath();
+        final int count = Integer.parseInt(args[1]);
+        final long seed = Long.parseLong(args[2]);
+
+        final long started = System.nanoTime();
+        final var employees = new MockEmployeeGenerator(seed, Locale.getDefault()).generate(count);
+        final long generated = System.nanoTime();
+        Files.createDirectories(file.getParent());
+        // The epoch is a placeholder: the server mints a fresh one whenever it loads the fixture
+        RosterSnapshotFile.write(file, new MockEmployeeStore.Checkpoint(Long.toHexString(seed), 0, employees));
+        System.out.printf(
+                "Wrote %d employees to %s (generated in %d ms, written in %d ms)%n",
+                count,
+                file,
+                TimeUnit.NANOSECONDS.toMillis(generated - started),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - generated));
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request; {@code index} is the item's position in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(int index, T data, Response.Status status, String error) {
+
+    public static <T> BatchItemResult<T> handledWith(int index, T data) {
+        return new BatchItemResult<>(index, data, Response.Status.HANDLED, null);
+    }
+
+    public static <T> BatchItemResult<T> error(int index, String error) {
+        return new BatchItemResult<>(index, null, Response.Status.ERROR, error);
+    }
+}
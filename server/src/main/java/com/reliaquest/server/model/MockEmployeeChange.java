@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+/**
+ * One entry of the roster change log. {@code sequence} is the roster version the change produced.
+ */
+public record MockEmployeeChange(long sequence, Type type, MockEmployee employee) {
+
+    public enum Type {
+        /**
+         * The employee was added, or replaced the one with the same ID.
+         */
+        CREATED,
+        DELETED
+    }
+}
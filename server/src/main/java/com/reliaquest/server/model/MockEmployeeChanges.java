@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The changes after a requested sequence number, in order.
+ *
+ * @param epoch identifies the roster the sequence numbers belong to; it changes when the server restarts
+ * @param version the roster version a client is at once it has applied {@code changes}
+ * @param reset {@code true} if the log no longer holds every change since the requested sequence number, in which case
+ *     {@code changes} is empty and the client must reload the full roster
+ */
+public record MockEmployeeChanges(String epoch, long version, boolean reset, List<MockEmployeeChange> changes) {}
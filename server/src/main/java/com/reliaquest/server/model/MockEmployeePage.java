@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of the employee listing. {@code next} is the cursor for the following page and is absent on the last one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeePage(List<?> employees, UUID next) {}
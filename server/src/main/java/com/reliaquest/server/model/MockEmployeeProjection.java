@@ -0,0 +1,60 @@
+package com.reliaquest.server.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A subset of {@link MockEmployee} fields, named as they are serialized (e.g. {@code employee_name}).
+ */
+public final class MockEmployeeProjection {
+
+    private static final Map<String, Function<MockEmployee, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("id", MockEmployee::getId);
+        FIELDS.put("employee_name", MockEmployee::getName);
+        FIELDS.put("employee_salary", MockEmployee::getSalary);
+        FIELDS.put("employee_age", MockEmployee::getAge);
+        FIELDS.put("employee_title", MockEmployee::getTitle);
+        FIELDS.put("employee_email", MockEmployee::getEmail);
+    }
+
+    private final List<String> fields;
+
+    private MockEmployeeProjection(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * @param fields comma-separated field names
+     * @throws IllegalArgumentException if a field is unknown or none is given
+     */
+    public static MockEmployeeProjection parse(String fields) {
+        final var selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        for (final var field : selected) {
+            if (!FIELDS.containsKey(field)) {
+                throw new IllegalArgumentException(
+                        "Unknown field '%s', expected one of %s".formatted(field, FIELDS.keySet()));
+            }
+        }
+        return new MockEmployeeProjection(selected);
+    }
+
+    public Map<String, Object> apply(MockEmployee employee) {
+        final var projected = new LinkedHashMap<String, Object>(fields.size() * 2);
+        for (final var field : fields) {
+            projected.put(field, FIELDS.get(field).apply(employee));
+        }
+        return projected;
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a {@link MockEmployee} shared by the snapshot and journal files: the ID as two longs, salary
+ * and age as ints ({@link Integer#MIN_VALUE} for {@code null}), then name, title and email as length-prefixed UTF-8
+ * (length {@code -1} for {@code null}).
+ */
+final class EmployeeCodec {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int FIXED_SIZE = Long.BYTES * 2 + Integer.BYTES * 2;
+
+    private EmployeeCodec() {}
+
+    static byte[][] strings(MockEmployee employee) {
+        return new byte[][] {utf8(employee.getName()), utf8(employee.getTitle()), utf8(employee.getEmail())};
+    }
+
+    /**
+     * @param strings the employee's {@link #strings}, encoded once by the caller so it can size its buffer
+     */
+    static int size(byte[][] strings) {
+        int size = FIXED_SIZE;
+        for (final var string : strings) {
+            size += Integer.BYTES + (string != null ? string.length : 0);
+        }
+        return size;
+    }
+
+    static void write(ByteBuffer buffer, MockEmployee employee, byte[][] strings) {
+        writeId(buffer, employee.getId());
+        buffer.putInt(employee.getSalary() != null ? employee.getSalary() : NULL_INT);
+        buffer.putInt(employee.getAge() != null ? employee.getAge() : NULL_INT);
+        for (final var string : strings) {
+            if (string == null) {
+                buffer.putInt(-1);
+            } else {
+                buffer.putInt(string.length).put(string);
+            }
+        }
+    }
+
+    static MockEmployee read(ByteBuffer buffer) {
+        final var id = readId(buffer);
+        final int salary = buffer.getInt();
+        final int age = buffer.getInt();
+        return MockEmployee.builder()
+                .id(id)
+                .salary(salary != NULL_INT ? salary : null)
+                .age(age != NULL_INT ? age : null)
+                .name(readString(buffer))
+                .title(readString(buffer))
+                .email(readString(buffer))
+                .build();
+    }
+
+    static void writeId(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readId(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    static String readString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
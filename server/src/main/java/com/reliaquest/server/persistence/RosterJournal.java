@@ -0,0 +1,205 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of roster changes with batched fsync.
+ *
+ * <p>{@link #append} only encodes the change into an in-memory buffer, so it is cheap enough to run under the store's
+ * write lock. {@link #flush} swaps that buffer out, writes it and forces it to disk once for every change appended
+ * since the previous flush; changes appended after the last flush are lost if the process dies. Each record is
+ * {@code [length][type][sequence][payload][crc32c]}, so a torn tail is detected and ignored on replay.
+ *
+ * <p>A batch that fails to write or force is put back in front of the changes appended since, and whatever part of it
+ * reached the file is truncated away before the next attempt, so the journal never holds a torn record followed by
+ * intact ones. Until a flush succeeds again the unwritten changes stay in memory.
+ */
+@Slf4j
+final class RosterJournal implements Closeable {
+
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private FileChannel channel;
+    // Size of the file up to the last forced batch; anything past it is a partial write of a failed batch
+    private long durableSize;
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    RosterJournal(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.durableSize = channel.size();
+    }
+
+    static RosterJournal open(Path path) throws IOException {
+        return new RosterJournal(openChannel(path));
+    }
+
+    synchronized void append(MockEmployeeChange change) {
+        final var employee = change.employee();
+        final var strings = change.type() == MockEmployeeChange.Type.CREATED ? EmployeeCodec.strings(employee) : null;
+        final int payloadSize = strings != null ? EmployeeCodec.size(strings) : Long.BYTES * 2;
+        final int bodySize = 1 + Long.BYTES + payloadSize;
+        ensureCapacity(HEADER_SIZE + bodySize + Integer.BYTES);
+
+        pending.putInt(bodySize);
+        final int bodyStart = pending.position();
+        pending.put(strings != null ? CREATED : DELETED).putLong(change.sequence());
+        if (strings != null) {
+            EmployeeCodec.write(pending, employee, strings);
+        } else {
+            EmployeeCodec.writeId(pending, employee.getId());
+        }
+        final var crc = new CRC32C();
+        crc.update(pending.array(), bodyStart, bodySize);
+        pending.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Writes and forces everything appended so far.
+     */
+    void flush() throws IOException {
+        writeLock.lock();
+        try {
+            final ByteBuffer batch;
+            synchronized (this) {
+                if (pending.position() == 0) {
+                    return;
+                }
+                batch = pending;
+                pending = spare;
+                spare = batch;
+            }
+            batch.flip();
+            try {
+                if (channel.size() > durableSize) {
+                    channel.truncate(durableSize);
+                }
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+                durableSize = channel.size();
+                batch.clear();
+            } catch (IOException e) {
+                requeue(batch);
+                throw e;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the current file and continues in a new one; changes appended afterwards go to {@code path} only.
+     */
+    void rotate(Path path) throws IOException {
+        writeLock.lock();
+        try {
+            flush();
+            channel.close();
+            channel = openChannel(path);
+            durableSize = channel.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            flush();
+        } finally {
+            try {
+                channel.close();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Feeds every intact record of a journal file to {@code changes}, in order, stopping at the first torn one.
+     *
+     * @return the number of records replayed
+     */
+    static long replay(Path path, Consumer<MockEmployeeChange> changes) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Journal %s is too large to map: %d bytes".formatted(path, size));
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            long records = 0;
+            while (buffer.remaining() >= HEADER_SIZE) {
+                final int bodySize = buffer.getInt();
+                if (bodySize <= 0 || buffer.remaining() < bodySize + Integer.BYTES) {
+                    log.warn("Ignoring torn record at offset {} of {}", buffer.position() - HEADER_SIZE, path);
+                    break;
+                }
+                final var body = buffer.slice(buffer.position(), bodySize);
+                final var crc = new CRC32C();
+                crc.update(body.duplicate());
+                buffer.position(buffer.position() + bodySize);
+                if ((int) crc.getValue() != buffer.getInt()) {
+                    log.warn("Ignoring corrupt record at offset {} of {}", buffer.position() - bodySize, path);
+                    break;
+                }
+                changes.accept(decode(body));
+                records++;
+            }
+            return records;
+        }
+    }
+
+    private static MockEmployeeChange decode(ByteBuffer body) {
+        final byte type = body.get();
+        final long sequence = body.getLong();
+        if (type == CREATED) {
+            return new MockEmployeeChange(sequence, MockEmployeeChange.Type.CREATED, EmployeeCodec.read(body));
+        }
+        final var employee = MockEmployee.builder().id(EmployeeCodec.readId(body)).build();
+        return new MockEmployeeChange(sequence, MockEmployeeChange.Type.DELETED, employee);
+    }
+
+    /**
+     * Puts a batch that failed to flush back in front of the changes appended since it was swapped out.
+     */
+    private synchronized void requeue(ByteBuffer batch) {
+        batch.rewind();
+        pending.flip();
+        final var merged = ByteBuffer.allocate(Math.max(INITIAL_BUFFER_SIZE, batch.remaining() + pending.remaining()));
+        merged.put(batch).put(pending);
+        batch.clear();
+        pending = merged;
+    }
+
+    private void ensureCapacity(int size) {
+        if (pending.remaining() >= size) {
+            return;
+        }
+        final var grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + size));
+        pending.flip();
+        grown.put(pending);
+        pending = grown;
+    }
+
+    private static FileChannel openChannel(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
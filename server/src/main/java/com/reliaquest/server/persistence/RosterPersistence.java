@@ -0,0 +1,251 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a {@link MockEmployeeStore} on disk so a restarted server comes back with the same roster, epoch and version.
+ *
+ * <p>The directory holds numbered generations: {@code roster-<n>.snapshot} is the roster as of the start of
+ * generation {@code n} and {@code journal-<n>.log} the changes made during it. Every change is appended to the current
+ * journal and fsynced in batches every {@code fsync-interval}; every {@code snapshot-interval} a new generation is
+ * started and the older ones are deleted once its snapshot is on disk. Recovery loads the newest readable snapshot and
+ * replays the journals from its generation on, skipping changes the snapshot already contains.
+ *
+ * <p>A clean {@link #close} leaves a {@code clean-shutdown} marker behind, and only then does recovery resume the
+ * persisted epoch. After a crash the last {@code fsync-interval} of changes may be lost although clients have already
+ * seen their versions, and the restarted store would hand out those versions again for different changes; recovering
+ * under a fresh epoch makes every client tag stale instead, so clients reload rather than replicate from a version that
+ * now means something else.
+ */
+@Slf4j
+public class RosterPersistence implements Closeable {
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+    private static final String CLEAN_SHUTDOWN = "clean-shutdown";
+    private static final Pattern FILE_NAME = Pattern.compile("(roster|journal)-(\\d+)\\.(snapshot|log)");
+
+    private final Path directory;
+    private final Duration fsyncInterval;
+    private final Duration snapshotInterval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "roster-persistence");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private MockEmployeeStore store;
+    private RosterJournal journal;
+    private long generation;
+
+    public RosterPersistence(
+            @NonNull Path directory, @NonNull Duration fsyncInterval, @NonNull Duration snapshotInterval) {
+        if (fsyncInterval.isNegative() || fsyncInterval.isZero()) {
+            throw new IllegalArgumentException("Fsync interval must be positive");
+        }
+        if (snapshotInterval.isNegative() || snapshotInterval.isZero()) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.directory = directory;
+        this.fsyncInterval = fsyncInterval;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * @return the persisted roster, or empty if the directory holds no readable snapshot
+     */
+    public synchronized Optional<MockEmployeeStore.Checkpoint> recover() {
+        final long started = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            // Consumed right away, so that a crash of this run is not mistaken for a clean shutdown
+            final boolean clean = Files.deleteIfExists(directory.resolve(CLEAN_SHUTDOWN));
+            final var snapshots = generations("roster");
+            for (int i = snapshots.size() - 1; i >= 0; i--) {
+                final long snapshotGeneration = snapshots.get(i);
+                final MockEmployeeStore.Checkpoint snapshot;
+                try {
+                    snapshot = RosterSnapshotFile.read(snapshotPath(snapshotGeneration));
+                } catch (IOException | RuntimeException e) {
+                    log.warn(
+                            "Skipping unreadable roster snapshot {}: {}",
+                            snapshotPath(snapshotGeneration),
+                            e.toString());
+                    continue;
+                }
+                final var replayed = replay(snapshot, snapshotGeneration);
+                final var recovered = clean ? replayed : replayed.withNewEpoch();
+                log.info(
+                        "Recovered {} employees at version {} from {} in {} ms{}",
+                        recovered.employees().size(),
+                        recovered.version(),
+                        directory,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                        clean ? "" : " after an unclean shutdown, under a new epoch");
+                return Optional.of(recovered);
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover roster from " + directory, e);
+        }
+    }
+
+    /**
+     * Starts persisting {@code store}: opens a new generation with a snapshot of its current contents, journals every
+     * change from now on, and schedules the periodic fsync and snapshots.
+     */
+    public synchronized void attach(@NonNull MockEmployeeStore store) {
+        if (this.store != null) {
+            throw new IllegalStateException("Roster persistence is already attached");
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(directory.resolve(CLEAN_SHUTDOWN));
+            final var existing = Stream.concat(generations("roster").stream(), generations("journal").stream())
+                    .mapToLong(Long::longValue)
+                    .max();
+            generation = existing.orElse(0) + 1;
+            journal = RosterJournal.open(journalPath(generation));
+            store.setChangeListener(journal::append);
+            this.store = store;
+            writeSnapshot(store.checkpoint());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start persisting roster to " + directory, e);
+        }
+        final long fsyncMillis = fsyncInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::flush, fsyncMillis, fsyncMillis, TimeUnit.MILLISECONDS);
+        final long snapshotMillis = snapshotInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::snapshot, snapshotMillis, snapshotMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background work and forces any journaled changes that are not on disk yet.
+     */
+    @Override
+    public void close() throws IOException {
+        // Let a running fsync or snapshot finish; interrupting it would close the journal channel under it
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Roster persistence did not stop within {}", CLOSE_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (store != null) {
+                store.setChangeListener(null);
+                journal.close();
+                Files.write(directory.resolve(CLEAN_SHUTDOWN), new byte[0]);
+            }
+        }
+    }
+
+    void flush() {
+        try {
+            journal.flush();
+        } catch (IOException e) {
+            log.warn("Failed to fsync roster journal: {}", e.toString());
+        }
+    }
+
+    synchronized void snapshot() {
+        try {
+            // Rotate before checkpointing: changes racing the checkpoint land in the new journal, and replay skips
+            // those the snapshot already holds by sequence
+            generation++;
+            journal.rotate(journalPath(generation));
+            writeSnapshot(store.checkpoint());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to snapshot roster generation {}: {}", generation, e.toString());
+        }
+    }
+
+    private void writeSnapshot(MockEmployeeStore.Checkpoint checkpoint) throws IOException {
+        final long started = System.nanoTime();
+        RosterSnapshotFile.write(snapshotPath(generation), checkpoint);
+        log.debug(
+                "Wrote roster snapshot generation {} with {} employees at version {} in {} ms",
+                generation,
+                checkpoint.employees().size(),
+                checkpoint.version(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        deleteBefore(generation);
+    }
+
+    private MockEmployeeStore.Checkpoint replay(MockEmployeeStore.Checkpoint snapshot, long snapshotGeneration)
+            throws IOException {
+        final var employees = new LinkedHashMap<UUID, MockEmployee>();
+        snapshot.employees().forEach(employee -> employees.put(employee.getId(), employee));
+        final long[] version = {snapshot.version()};
+        for (final long journalGeneration : generations("journal")) {
+            if (journalGeneration < snapshotGeneration) {
+                continue;
+            }
+            RosterJournal.replay(journalPath(journalGeneration), change -> {
+                if (change.sequence() <= version[0]) {
+                    return;
+                }
+                if (change.type() == MockEmployeeChange.Type.CREATED) {
+                    employees.put(change.employee().getId(), change.employee());
+                } else {
+                    employees.remove(change.employee().getId());
+                }
+                version[0] = change.sequence();
+            });
+        }
+        return new MockEmployeeStore.Checkpoint(snapshot.epoch(), version[0], List.copyOf(employees.values()));
+    }
+
+    private void deleteBefore(long keep) throws IOException {
+        try (final var files = Files.list(directory)) {
+            for (final var file : files.toList()) {
+                final var matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(2)) < keep) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private List<Long> generations(String kind) throws IOException {
+        final var generations = new ArrayList<Long>();
+        try (final var files = Files.list(directory)) {
+            files.forEach(file -> {
+                final var matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && matcher.group(1).equals(kind)) {
+                    generations.add(Long.parseLong(matcher.group(2)));
+                }
+            });
+        }
+        generations.sort(null);
+        return generations;
+    }
+
+    private Path snapshotPath(long generation) {
+        return directory.resolve("roster-%020d.snapshot".formatted(generation));
+    }
+
+    private Path journalPath(long generation) {
+        return directory.resolve("journal-%020d.log".formatted(generation));
+    }
+}
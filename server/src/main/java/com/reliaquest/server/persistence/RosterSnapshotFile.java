@@ -0,0 +1,104 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads and writes a complete {@link MockEmployeeStore.Checkpoint} as one binary file: a header with the epoch, version
+ * and employee count, the employees in {@link EmployeeCodec} form, and a CRC32C of everything before it.
+ *
+ * <p>Files are written through a direct buffer into a temporary file, forced to disk and then atomically renamed, so a
+ * snapshot is either complete or absent. They are read back through a read-only memory mapping without copying the
+ * file onto the heap first.
+ */
+public final class RosterSnapshotFile {
+
+    private static final int MAGIC = 0x52534e50; // "RSNP"
+    private static final int FORMAT = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private RosterSnapshotFile() {}
+
+    public static void write(Path path, MockEmployeeStore.Checkpoint checkpoint) throws IOException {
+        final var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        final var crc = new CRC32C();
+        try (final var channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            final var epoch = EmployeeCodec.utf8(checkpoint.epoch());
+            buffer.putInt(MAGIC).putInt(FORMAT).putInt(epoch.length).put(epoch);
+            buffer.putLong(checkpoint.version()).putInt(checkpoint.employees().size());
+            for (final var employee : checkpoint.employees()) {
+                final var strings = EmployeeCodec.strings(employee);
+                final int size = EmployeeCodec.size(strings);
+                if (buffer.remaining() < size) {
+                    drain(channel, buffer, crc);
+                    if (buffer.capacity() < size) {
+                        buffer = ByteBuffer.allocateDirect(size);
+                    }
+                }
+                EmployeeCodec.write(buffer, employee, strings);
+            }
+            drain(channel, buffer, crc);
+            buffer.putLong(crc.getValue()).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @throws IOException if the file cannot be read, is not a roster snapshot, or fails its checksum
+     */
+    public static MockEmployeeStore.Checkpoint read(Path path) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Roster snapshot %s is too large to map: %d bytes".formatted(path, size));
+            }
+            if (size < Integer.BYTES * 3 + Long.BYTES * 2) {
+                throw new IOException("Roster snapshot %s is truncated".formatted(path));
+            }
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final int contentSize = (int) size - Long.BYTES;
+            final var crc = new CRC32C();
+            crc.update(mapped.slice(0, contentSize));
+            if (crc.getValue() != mapped.getLong(contentSize)) {
+                throw new IOException("Roster snapshot %s fails its checksum".formatted(path));
+            }
+
+            final var buffer = mapped.slice(0, contentSize);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                throw new IOException("%s is not a roster snapshot".formatted(path));
+            }
+            final var epoch = EmployeeCodec.readString(buffer);
+            final long version = buffer.getLong();
+            final int count = buffer.getInt();
+            final var employees = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(EmployeeCodec.read(buffer));
+            }
+            return new MockEmployeeStore.Checkpoint(epoch, version, employees);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
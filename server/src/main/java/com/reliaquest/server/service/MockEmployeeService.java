@@ -1,14 +1,18 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +26,158 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final Validator validator;
+
+    public MockEmployeeStore.Versioned<List<MockEmployee>> getMockEmployees() {
+        return mockEmployeeStore.versionedSnapshot();
+    }
+
+    /**
+     * @return the tag of the current roster version, bumped by every create and delete
+     */
+    public String getRosterVersion() {
+        return mockEmployeeStore.versionTag();
+    }
+
+    /**
+     * @return the creates and deletes after roster version {@code since}, at most {@code limit} of them
+     */
+    public MockEmployeeChanges getChangesSince(long since, int limit) {
+        return mockEmployeeStore.changesSince(since, limit);
+    }
+
+    public List<MockEmployee> getMockEmployeePage(UUID after, int limit) {
+        return mockEmployeeStore.page(after, limit);
+    }
+
+    public List<MockEmployee> searchByName(@NonNull String fragment, boolean ignoreCase, int limit) {
+        return mockEmployeeStore.searchByName(fragment, ignoreCase, limit);
+    }
+
+    public Optional<Integer> getHighestSalary() {
+        return mockEmployeeStore.maxSalary();
+    }
+
+    public List<MockEmployee> getTopEarners(int limit) {
+        return mockEmployeeStore.topBySalary(limit);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newMockEmployee(input);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var mockEmployee = mockEmployeeStore.removeByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * Removes exactly the employee with the given ID, in O(1).
+     */
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = mockEmployeeStore.removeById(uuid);
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee;
+    }
+
+    /**
+     * Creates every valid input; invalid ones are reported in their result instead of failing the batch.
+     */
+    public List<BatchItemResult<MockEmployee>> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var results = new ArrayList<BatchItemResult<MockEmployee>>(inputs.size());
+        final var created = new ArrayList<MockEmployee>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            final var violations = violations(inputs.get(i));
+            if (violations != null) {
+                results.add(BatchItemResult.error(i, violations));
+                continue;
+            }
+            final var mockEmployee = newMockEmployee(inputs.get(i));
+            created.add(mockEmployee);
+            results.add(BatchItemResult.handledWith(i, mockEmployee));
+        }
+        mockEmployeeStore.addAll(created);
+        log.debug("Added {} of {} employees in batch", created.size(), inputs.size());
+        return results;
+    }
+
+    /**
+     * Deletes by name like {@link #delete} for each input, in order.
+     */
+    public List<BatchItemResult<Boolean>> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var results = new ArrayList<BatchItemResult<Boolean>>(inputs.size());
+        final var names = new ArrayList<String>(inputs.size());
+        final var indexes = new ArrayList<Integer>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            final var violations = violations(inputs.get(i));
+            if (violations != null) {
+                results.add(BatchItemResult.error(i, violations));
+            } else {
+                results.add(null);
+                names.add(inputs.get(i).getName());
+                indexes.add(i);
+            }
+        }
+        final var removed = mockEmployeeStore.removeAllByName(names);
+        for (int i = 0; i < removed.size(); i++) {
+            results.set(indexes.get(i), BatchItemResult.handledWith(indexes.get(i), removed.get(i).isPresent()));
         }
+        log.debug(
+                "Removed {} of {} employees in batch",
+                removed.stream().filter(Optional::isPresent).count(),
+                inputs.size());
+        return results;
+    }
 
-        return false;
+    /**
+     * Deletes by ID like {@link #deleteById} for each ID, in order.
+     *
+     * @return for each ID the deleted employee, or a handled result without data if there was none
+     */
+    public List<BatchItemResult<MockEmployee>> deleteAllById(@NonNull List<UUID> ids) {
+        final var removed = mockEmployeeStore.removeAllById(ids);
+        final var results = new ArrayList<BatchItemResult<MockEmployee>>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            results.add(
+                    ids.get(i) == null
+                            ? BatchItemResult.error(i, "Item is required")
+                            : BatchItemResult.handledWith(i, removed.get(i).orElse(null)));
+        }
+        log.debug(
+                "Removed {} of {} employees by ID in batch",
+                removed.stream().filter(Optional::isPresent).count(),
+                ids.size());
+        return results;
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
+
+    private String violations(Object input) {
+        if (input == null) {
+            return "Item is required";
+        }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
     }
 }
@@ -0,0 +1,112 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Query indexes over the mock employees, updated on every add and remove so that searches and salary aggregates do not
+ * scan the roster.
+ *
+ * <p>Salaries are kept in a tree ordered highest first, so the maximum is its first entry and the top N are its first N
+ * entries. Names are split into lower-cased three-character grams, each mapping to the IDs whose name contains it in
+ * insertion order; a search for three or more characters only verifies the IDs of its rarest gram. Not thread-safe:
+ * {@link MockEmployeeStore} guards it with its lock.
+ */
+class MockEmployeeQueryIndex {
+
+    private static final int GRAM = 3;
+
+    private static final Comparator<MockEmployee> HIGHEST_SALARY_FIRST = Comparator.comparingInt(
+                    MockEmployeeQueryIndex::salaryOf)
+            .reversed()
+            .thenComparing(MockEmployee::getId);
+
+    private final TreeSet<MockEmployee> bySalary = new TreeSet<>(HIGHEST_SALARY_FIRST);
+    private final Map<Long, Set<UUID>> idsByGram = new HashMap<>();
+
+    void add(MockEmployee employee) {
+        bySalary.add(employee);
+        for (final var gram : grams(employee.getName())) {
+            idsByGram.computeIfAbsent(gram, ignored -> new LinkedHashSet<>()).add(employee.getId());
+        }
+    }
+
+    void remove(MockEmployee employee) {
+        bySalary.remove(employee);
+        for (final var gram : grams(employee.getName())) {
+            final var ids = idsByGram.get(gram);
+            if (ids != null) {
+                ids.remove(employee.getId());
+                if (ids.isEmpty()) {
+                    idsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    Integer maxSalary() {
+        return bySalary.isEmpty() ? null : bySalary.first().getSalary();
+    }
+
+    List<MockEmployee> topBySalary(int limit) {
+        final var top = new ArrayList<MockEmployee>(Math.min(limit, bySalary.size()));
+        for (final var employee : bySalary) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(employee);
+        }
+        return top;
+    }
+
+    /**
+     * @return the IDs that may contain {@code fragment}, or {@code null} if it is too short to narrow the search down
+     */
+    Collection<UUID> candidates(String fragment) {
+        final var lowerCase = fragment.toLowerCase(Locale.ROOT);
+        if (lowerCase.length() < GRAM) {
+            return null;
+        }
+        Set<UUID> rarest = null;
+        for (int start = 0; start + GRAM <= lowerCase.length(); start++) {
+            final var ids = idsByGram.get(gram(lowerCase, start));
+            if (ids == null) {
+                return Set.of();
+            }
+            if (rarest == null || ids.size() < rarest.size()) {
+                rarest = ids;
+            }
+        }
+        return rarest;
+    }
+
+    private static Set<Long> grams(String name) {
+        if (name == null) {
+            return Set.of();
+        }
+        final var lowerCase = name.toLowerCase(Locale.ROOT);
+        final var grams = new LinkedHashSet<Long>();
+        for (int start = 0; start + GRAM <= lowerCase.length(); start++) {
+            grams.add(gram(lowerCase, start));
+        }
+        return grams;
+    }
+
+    private static long gram(String value, int start) {
+        return ((long) value.charAt(start) << 32) | ((long) value.charAt(start + 1) << 16) | value.charAt(start + 2);
+    }
+
+    private static int salaryOf(MockEmployee employee) {
+        return employee.getSalary() != null ? employee.getSalary() : 0;
+    }
+}
@@ -0,0 +1,397 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * Thread-safe, indexed home of the mock employees.
+ *
+ * <p>Employees are keyed by ID in a {@link ConcurrentHashMap}, so lookups are O(1) and never block. Listings come from
+ * a second map kept in insertion order, and a case-insensitive name index, also in insertion order, resolves the
+ * name-based delete in O(1). Writers hold the write lock across all indexes, and {@link #snapshot()} copies under the
+ * read lock, so a listing never observes a half-applied create or delete.
+ *
+ * <p>A second, ID-ordered index backs cursor pagination: {@link #page} reads it without locking, so a page reflects
+ * every write that completed before it was read.
+ *
+ * <p>Name search and salary aggregates are answered by a {@link MockEmployeeQueryIndex}, maintained alongside the other
+ * indexes under the write lock and read under the read lock.
+ *
+ * <p>Every add and remove bumps a roster version. Its tag, prefixed with a random per-store epoch so that tags from a
+ * previous run never match, identifies the exact contents a {@link #versionedSnapshot()} was copied from.
+ *
+ * <p>Each version bump also appends a {@link MockEmployeeChange} to a change log holding the most recent
+ * {@code changeRetention} changes, keyed by the version they produced, so a client at any retained version can catch
+ * up with {@link #changesSince} instead of copying the roster. A change listener, if set, sees every change in
+ * sequence order while the write lock is held, e.g. to journal it; a store restored from a {@link Checkpoint} resumes
+ * that checkpoint's epoch and version.
+ */
+public class MockEmployeeStore {
+
+    public static final int DEFAULT_CHANGE_RETENTION = 10_000;
+
+    private final ConcurrentHashMap<UUID, MockEmployee> employeesById = new ConcurrentHashMap<>();
+    // Guarded by the lock; a replaced employee keeps its position
+    private final Map<UUID, MockEmployee> employeesInInsertionOrder = new LinkedHashMap<>();
+    private final ConcurrentSkipListMap<UUID, MockEmployee> employeesInIdOrder = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<UUID>> idsByName = new HashMap<>();
+    private final MockEmployeeQueryIndex queryIndex = new MockEmployeeQueryIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final String epoch;
+    private volatile long version;
+    private final MockEmployeeChange[] changes;
+    // Versions up to here predate the store and are not in the change log
+    private final long changeLogStart;
+    private volatile Consumer<MockEmployeeChange> changeListener;
+
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> employees) {
+        this(employees, DEFAULT_CHANGE_RETENTION);
+    }
+
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> employees, int changeRetention) {
+        this(newEpoch(), 0, changeRetention);
+        addAll(employees);
+    }
+
+    /**
+     * Restores a store from a checkpoint without recording its employees as changes.
+     */
+    public MockEmployeeStore(@NonNull Checkpoint checkpoint, int changeRetention) {
+        this(checkpoint.epoch(), checkpoint.version(), changeRetention);
+        lock.writeLock().lock();
+        try {
+            checkpoint.employees().forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private MockEmployeeStore(String epoch, long version, int changeRetention) {
+        if (changeRetention < 1) {
+            throw new IllegalArgumentException("Change retention must be positive");
+        }
+        this.epoch = epoch;
+        this.version = version;
+        this.changeLogStart = version;
+        this.changes = new MockEmployeeChange[changeRetention];
+    }
+
+    /**
+     * @param listener called with each change, in sequence order, while the write lock is held; must not block
+     */
+    public void setChangeListener(Consumer<MockEmployeeChange> listener) {
+        this.changeListener = listener;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(employeesById.get(id));
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    /**
+     * Adds all employees under one acquisition of the write lock.
+     */
+    public void addAll(@NonNull Collection<MockEmployee> employees) {
+        employees.forEach(employee -> Objects.requireNonNull(employee.getId(), "Employee ID is required"));
+        lock.writeLock().lock();
+        try {
+            employees.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the oldest employee whose name matches, ignoring case.
+     */
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        return removeAllByName(List.of(name)).get(0);
+    }
+
+    /**
+     * Applies {@link #removeByName} to each name in order, under one acquisition of the write lock.
+     *
+     * @return the removed employee for each name, in the same order
+     */
+    public List<Optional<MockEmployee>> removeAllByName(@NonNull List<String> names) {
+        final var removed = new ArrayList<Optional<MockEmployee>>(names.size());
+        lock.writeLock().lock();
+        try {
+            for (final var name : names) {
+                final var ids = name != null ? idsByName.get(nameKey(name)) : null;
+                removed.add(ids == null || ids.isEmpty() ? Optional.empty() : remove(ids.iterator().next()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return removed;
+    }
+
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        return removeAllById(List.of(id)).get(0);
+    }
+
+    /**
+     * Applies {@link #removeById} to each ID in order, under one acquisition of the write lock; a {@code null} ID
+     * removes nothing.
+     *
+     * @return the removed employee for each ID, in the same order
+     */
+    public List<Optional<MockEmployee>> removeAllById(@NonNull List<UUID> ids) {
+        final var removed = new ArrayList<Optional<MockEmployee>>(ids.size());
+        lock.writeLock().lock();
+        try {
+            for (final var id : ids) {
+                removed.add(id != null ? remove(id) : Optional.empty());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return removed;
+    }
+
+    /**
+     * @return an immutable, consistent copy of all employees, in insertion order
+     */
+    public List<MockEmployee> snapshot() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(employeesInInsertionOrder.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the current roster contents together with the tag of their version
+     */
+    public Versioned<List<MockEmployee>> versionedSnapshot() {
+        lock.readLock().lock();
+        try {
+            return new Versioned<>(versionTag(), List.copyOf(employeesInInsertionOrder.values()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the current roster contents together with the epoch and version they belong to
+     */
+    public Checkpoint checkpoint() {
+        lock.readLock().lock();
+        try {
+            return new Checkpoint(epoch, version, List.copyOf(employeesInInsertionOrder.values()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the tag of the current roster version; it changes on every add and remove
+     */
+    public String versionTag() {
+        return epoch + "-" + version;
+    }
+
+    /**
+     * @param since the roster version the caller is at
+     * @param limit the maximum number of changes to return
+     * @return the changes that followed {@code since}, oldest first, or a reset if some of them are no longer retained
+     */
+    public MockEmployeeChanges changesSince(long since, int limit) {
+        lock.readLock().lock();
+        try {
+            final long current = version;
+            if (since < changeLogStart || since > current || since < current - changes.length) {
+                return new MockEmployeeChanges(epoch, current, true, List.of());
+            }
+            final long last = Math.min(current, since + limit);
+            final var page = new ArrayList<MockEmployeeChange>((int) (last - since));
+            for (long sequence = since + 1; sequence <= last; sequence++) {
+                page.add(changes[(int) (sequence % changes.length)]);
+            }
+            return new MockEmployeeChanges(epoch, last, false, page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param after the ID the previous page ended with, or {@code null} for the first page
+     * @param limit the maximum number of employees to return
+     * @return up to {@code limit} employees with IDs greater than {@code after}, in ID order
+     */
+    public List<MockEmployee> page(UUID after, int limit) {
+        final var tail = after == null ? employeesInIdOrder : employeesInIdOrder.tailMap(after, false);
+        final var page = new ArrayList<MockEmployee>(Math.min(limit, 1024));
+        for (final var employee : tail.values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(employee);
+        }
+        return page;
+    }
+
+    /**
+     * @param fragment the name fragment to look for
+     * @param ignoreCase whether matching should ignore case
+     * @param limit the maximum number of employees to return
+     * @return the employees whose name contains the fragment, in insertion order
+     */
+    public List<MockEmployee> searchByName(@NonNull String fragment, boolean ignoreCase, int limit) {
+        final var needle = ignoreCase ? fragment.toLowerCase(Locale.ROOT) : fragment;
+        final var matches = new ArrayList<MockEmployee>();
+        lock.readLock().lock();
+        try {
+            final var candidates = queryIndex.candidates(fragment);
+            final var employees = candidates != null
+                    ? candidates.stream().map(employeesById::get).toList()
+                    : employeesInInsertionOrder.values();
+            for (final var employee : employees) {
+                if (matches.size() == limit) {
+                    break;
+                }
+                final var name = employee.getName();
+                if (name != null && (ignoreCase ? nameKey(name) : name).contains(needle)) {
+                    matches.add(employee);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    /**
+     * @return the highest salary, if there are any employees
+     */
+    public Optional<Integer> maxSalary() {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(queryIndex.maxSalary());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to {@code limit} employees by descending salary, ties broken by ID
+     */
+    public List<MockEmployee> topBySalary(int limit) {
+        lock.readLock().lock();
+        try {
+            return queryIndex.topBySalary(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return employeesById.size();
+    }
+
+    private void put(MockEmployee employee) {
+        record(MockEmployeeChange.Type.CREATED, employee);
+        index(employee);
+    }
+
+    private void index(MockEmployee employee) {
+        final var previous = employeesById.put(employee.getId(), employee);
+        employeesInInsertionOrder.put(employee.getId(), employee);
+        employeesInIdOrder.put(employee.getId(), employee);
+        if (previous != null) {
+            unindexName(previous);
+            queryIndex.remove(previous);
+        }
+        queryIndex.add(employee);
+        if (employee.getName() != null) {
+            idsByName
+                    .computeIfAbsent(nameKey(employee.getName()), ignored -> new LinkedHashSet<>())
+                    .add(employee.getId());
+        }
+    }
+
+    private Optional<MockEmployee> remove(UUID id) {
+        final var removed = employeesById.remove(id);
+        employeesInInsertionOrder.remove(id);
+        employeesInIdOrder.remove(id);
+        if (removed != null) {
+            record(MockEmployeeChange.Type.DELETED, removed);
+            unindexName(removed);
+            queryIndex.remove(removed);
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    private void record(MockEmployeeChange.Type type, MockEmployee employee) {
+        final long sequence = version + 1;
+        final var change = new MockEmployeeChange(sequence, type, employee);
+        changes[(int) (sequence % changes.length)] = change;
+        version = sequence;
+        final var listener = changeListener;
+        if (listener != null) {
+            listener.accept(change);
+        }
+    }
+
+    private void unindexName(MockEmployee employee) {
+        if (employee.getName() == null) {
+            return;
+        }
+        final var key = nameKey(employee.getName());
+        final var ids = idsByName.get(key);
+        if (ids != null) {
+            ids.remove(employee.getId());
+            if (ids.isEmpty()) {
+                idsByName.remove(key);
+            }
+        }
+    }
+
+    public record Versioned<T>(String tag, T value) {}
+
+    /**
+     * The complete state of a store at one version, as persisted and restored.
+     */
+    public record Checkpoint(String epoch, long version, List<MockEmployee> employees) {
+
+        /**
+         * @return this checkpoint under a fresh random epoch, so that no tag handed out before it matches any more
+         */
+        public Checkpoint withNewEpoch() {
+            return new Checkpoint(newEpoch(), version, employees);
+        }
+    }
+
+    private static String newEpoch() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
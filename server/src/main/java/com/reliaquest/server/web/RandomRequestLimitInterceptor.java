@@ -1,48 +1,53 @@
 package com.reliaquest.server.web;
 
+import com.reliaquest.server.web.limit.RequestLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.random.RandomGenerator;
-import lombok.Getter;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * Rejects requests with {@code 429 Too Many Requests} and a {@code Retry-After} header once the configured
+ * {@link RequestLimiter} runs out of budget. Budgets are kept per client, identified by the {@value #CLIENT_ID_HEADER}
+ * header or the remote address, unless {@code perClient} is off; the limiter bounds how many clients it tracks.
+ */
+@RequiredArgsConstructor
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private static final String SHARED_CLIENT = "*";
+
+    private final RequestLimiter requestLimiter;
+    private final boolean perClient;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
-            }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
-            }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
+        final long retryAfterNanos = requestLimiter.tryAcquire(clientKey(request));
+        if (retryAfterNanos > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(retryAfterNanos)));
+            return false;
         }
-
         return true;
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
+    /**
+     * @return the wait rounded up to whole seconds, as {@code Retry-After} requires, and at least one second
+     */
+    static long retryAfterSeconds(long nanos) {
+        final long second = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(1, (nanos + second - 1) / second);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (!perClient) {
+            return SHARED_CLIENT;
         }
+        final var clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
     }
 }
@@ -0,0 +1,91 @@
+package com.reliaquest.server.web.limit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Base for limiters that keep an immutable state per client and advance it with a compare-and-set loop, so concurrent
+ * requests by the same client are counted exactly once without locking.
+ *
+ * <p>Client keys come from the request, so the states are bounded: once per sweep interval, states that are back at a
+ * full budget are dropped, as a fresh state would behave the same. A dropped state is first swapped for {@code null},
+ * so a request racing the sweep retries against a new state instead of charging the dropped one. Beyond
+ * {@value #MAX_CLIENTS} tracked clients, new clients share a single overflow budget until a sweep makes room.
+ *
+ * @param <S> immutable limiter state
+ */
+abstract class CasRequestLimiter<S> implements RequestLimiter {
+
+    static final int MAX_CLIENTS = 10_000;
+    static final String OVERFLOW_CLIENT = "\0overflow";
+
+    private final ConcurrentHashMap<String, AtomicReference<S>> states = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final long sweepIntervalNanos;
+    private final AtomicLong lastSweepNanos;
+
+    protected CasRequestLimiter(long sweepIntervalNanos, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.sweepIntervalNanos = Math.max(1, sweepIntervalNanos);
+        this.lastSweepNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public long tryAcquire(String clientKey) {
+        final long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        final var key = states.containsKey(clientKey) || states.size() < MAX_CLIENTS ? clientKey : OVERFLOW_CLIENT;
+        while (true) {
+            final var state = states.computeIfAbsent(key, ignored -> new AtomicReference<>(initialState(now)));
+            final var current = state.get();
+            if (current == null) {
+                // Dropped by a sweep after we looked it up
+                states.remove(key, state);
+                continue;
+            }
+            final var next = acquire(current, now);
+            if (next == null) {
+                return Math.max(1, retryAfterNanos(current, now));
+            }
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return the number of clients whose state is currently kept
+     */
+    int trackedClients() {
+        return states.size();
+    }
+
+    private void sweepIfDue(long now) {
+        final long last = lastSweepNanos.get();
+        if (now - last < sweepIntervalNanos || !lastSweepNanos.compareAndSet(last, now)) {
+            return;
+        }
+        states.forEach((key, state) -> {
+            final var current = state.get();
+            if (current != null && isIdle(current, now) && state.compareAndSet(current, null)) {
+                states.remove(key, state);
+            }
+        });
+    }
+
+    protected abstract S initialState(long now);
+
+    /**
+     * @return the state after charging one request, or {@code null} if the request must be rejected
+     */
+    protected abstract S acquire(S state, long now);
+
+    protected abstract long retryAfterNanos(S state, long now);
+
+    /**
+     * @return whether the state grants the same budget as a fresh one, so it can be dropped
+     */
+    protected abstract boolean isIdle(S state, long now);
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.server.web.limit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Allows {@code limit} requests per client in a window that opens with the client's first request; once exhausted,
+ * requests are rejected until the window closes.
+ */
+public class FixedWindowRequestLimiter extends CasRequestLimiter<FixedWindowRequestLimiter.Window> {
+
+    private final int limit;
+    private final long windowNanos;
+
+    public FixedWindowRequestLimiter(int limit, Duration window, LongSupplier nanoClock) {
+        super(window.toNanos(), nanoClock);
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    protected Window initialState(long now) {
+        return new Window(now, 0);
+    }
+
+    @Override
+    protected Window acquire(Window window, long now) {
+        if (now - window.startNanos() >= windowNanos) {
+            return new Window(now, 1);
+        }
+        return window.count() < limit ? new Window(window.startNanos(), window.count() + 1) : null;
+    }
+
+    @Override
+    protected long retryAfterNanos(Window window, long now) {
+        return window.startNanos() + windowNanos - now;
+    }
+
+    @Override
+    protected boolean isIdle(Window window, long now) {
+        return now - window.startNanos() >= windowNanos;
+    }
+
+    record Window(long startNanos, int count) {}
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.server.web.limit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Selectable {@link RequestLimiter} implementations, configured with {@code mock.rate-limit.strategy}.
+ */
+public enum RateLimitStrategy {
+    FIXED_WINDOW {
+        @Override
+        public RequestLimiter create(int limit, Duration window, LongSupplier nanoClock) {
+            return new FixedWindowRequestLimiter(limit, window, nanoClock);
+        }
+    },
+    SLIDING_WINDOW {
+        @Override
+        public RequestLimiter create(int limit, Duration window, LongSupplier nanoClock) {
+            return new SlidingWindowRequestLimiter(limit, window, nanoClock);
+        }
+    },
+    TOKEN_BUCKET {
+        @Override
+        public RequestLimiter create(int limit, Duration window, LongSupplier nanoClock) {
+            return new TokenBucketRequestLimiter(limit, window, nanoClock);
+        }
+    },
+    DISABLED {
+        @Override
+        public RequestLimiter create(int limit, Duration window, LongSupplier nanoClock) {
+            return clientKey -> 0;
+        }
+    };
+
+    public abstract RequestLimiter create(int limit, Duration window, LongSupplier nanoClock);
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.server.web.limit;
+
+/**
+ * Decides whether a client may issue another request.
+ */
+public interface RequestLimiter {
+
+    /**
+     * Records a request by the given client if the limit allows it.
+     *
+     * @param clientKey identifies whose budget the request is charged to
+     * @return {@code 0} if the request is allowed, otherwise how many nanoseconds the client should wait before
+     *     retrying
+     */
+    long tryAcquire(String clientKey);
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.web.limit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding-window counter: the previous window's count is weighted by how much of it still overlaps the sliding
+ * window, which smooths out the burst a fixed window allows at its boundary without keeping a log per request.
+ */
+public class SlidingWindowRequestLimiter extends CasRequestLimiter<SlidingWindowRequestLimiter.Window> {
+
+    private final int limit;
+    private final long windowNanos;
+
+    public SlidingWindowRequestLimiter(int limit, Duration window, LongSupplier nanoClock) {
+        super(window.toNanos(), nanoClock);
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    protected Window initialState(long now) {
+        return new Window(now, 0, 0);
+    }
+
+    @Override
+    protected Window acquire(Window window, long now) {
+        final var current = roll(window, now);
+        final double overlap = 1.0 - (double) (now - current.startNanos()) / windowNanos;
+        final double estimate = current.previousCount() * overlap + current.currentCount();
+        if (estimate + 1 > limit) {
+            return null;
+        }
+        return new Window(current.startNanos(), current.previousCount(), current.currentCount() + 1);
+    }
+
+    @Override
+    protected long retryAfterNanos(Window window, long now) {
+        final var current = roll(window, now);
+        return current.startNanos() + windowNanos - now;
+    }
+
+    @Override
+    protected boolean isIdle(Window window, long now) {
+        final var current = roll(window, now);
+        return current.previousCount() == 0 && current.currentCount() == 0;
+    }
+
+    private Window roll(Window window, long now) {
+        final long elapsed = now - window.startNanos();
+        if (elapsed < windowNanos) {
+            return window;
+        }
+        if (elapsed < 2 * windowNanos) {
+            return new Window(window.startNanos() + windowNanos, window.currentCount(), 0);
+        }
+        return new Window(now - elapsed % windowNanos, 0, 0);
+    }
+
+    record Window(long startNanos, int previousCount, int currentCount) {}
+}
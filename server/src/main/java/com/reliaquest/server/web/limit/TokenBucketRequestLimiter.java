@@ -0,0 +1,48 @@
+package com.reliaquest.server.web.limit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket holding up to {@code limit} tokens per client, refilled at {@code limit} tokens per window.
+ */
+public class TokenBucketRequestLimiter extends CasRequestLimiter<TokenBucketRequestLimiter.Bucket> {
+
+    private final int capacity;
+    private final double tokensPerNano;
+
+    public TokenBucketRequestLimiter(int limit, Duration window, LongSupplier nanoClock) {
+        super(window.toNanos(), nanoClock);
+        this.capacity = limit;
+        this.tokensPerNano = (double) limit / window.toNanos();
+    }
+
+    @Override
+    protected Bucket initialState(long now) {
+        return new Bucket(capacity, now);
+    }
+
+    @Override
+    protected Bucket acquire(Bucket bucket, long now) {
+        final double tokens = refill(bucket, now);
+        return tokens >= 1 ? new Bucket(tokens - 1, Math.max(now, bucket.lastRefillNanos())) : null;
+    }
+
+    @Override
+    protected long retryAfterNanos(Bucket bucket, long now) {
+        final double missing = 1 - refill(bucket, now);
+        return Math.min(TimeUnit.DAYS.toNanos(1), (long) Math.ceil(missing / tokensPerNano));
+    }
+
+    @Override
+    protected boolean isIdle(Bucket bucket, long now) {
+        return refill(bucket, now) >= capacity;
+    }
+
+    private double refill(Bucket bucket, long now) {
+        return Math.min(capacity, bucket.tokens() + Math.max(0, now - bucket.lastRefillNanos()) * tokensPerNano);
+    }
+
+    record Bucket(double tokens, long lastRefillNanos) {}
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class MockEmployeeControllerTest {
+
+    @Mock
+    private MockEmployeeService mockEmployeeService;
+
+    @InjectMocks
+    private MockEmployeeController mockEmployeeController;
+
+    private MockMvc mockMvc;
+
+    private List<MockEmployee> employees;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mockEmployeeController, "maxBatchSize", 2);
+        ReflectionTestUtils.setField(mockEmployeeController, "maxPageLimit", 100);
+        mockMvc = MockMvcBuilders.standaloneSetup(mockEmployeeController).build();
+
+        employees = IntStream.range(0, 3)
+                .mapToObj(i -> MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee " + i)
+                        .salary(1000 + i)
+                        .age(30)
+                        .title("Engineer")
+                        .email("employee" + i + "@company.com")
+                        .build())
+                .toList();
+    }
+
+    @Test
+    void pageShouldReturnTheCursorOfItsLastEmployeeWhenMoreFollow() throws Exception {
+        UUID after = UUID.randomUUID();
+        when(mockEmployeeService.getMockEmployeePage(after, 3)).thenReturn(employees);
+
+        mockMvc.perform(get("/api/v1/employee")
+                        .param("limit", "2")
+                        .param("after", after.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees.length()").value(2))
+                .andExpect(jsonPath("$.data.next").value(employees.get(1).getId().toString()));
+    }
+
+    @Test
+    void lastPageShouldHaveNoCursorAndProjectedFieldsOnly() throws Exception {
+        when(mockEmployeeService.getMockEmployeePage(null, 4)).thenReturn(employees);
+
+        mockMvc.perform(get("/api/v1/employee").param("limit", "3").param("fields", "employee_name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees[2].employee_name").value("Employee 2"))
+                .andExpect(jsonPath("$.data.employees[2].employee_salary").doesNotExist())
+                .andExpect(jsonPath("$.data.next").doesNotExist());
+    }
+
+    @Test
+    void pageShouldRejectAnOutOfRangeLimitOrUnknownField() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").param("limit", "101")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee").param("limit", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee").param("limit", "10").param("fields", "password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("'password'")));
+
+        verifyNoInteractions(mockEmployeeService);
+    }
+
+    @Test
+    void searchShouldDefaultToThePageLimitAndRejectLimitsBeyondIt() throws Exception {
+        when(mockEmployeeService.searchByName("Employee", false, 100)).thenReturn(employees);
+
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "Employee"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3));
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "Employee").param("limit", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("limit must be between 1 and 100"));
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "Employee").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rosterShouldBeNotModifiedWhenIfNoneMatchNamesTheCurrentVersion() throws Exception {
+        when(mockEmployeeService.getRosterVersion()).thenReturn("abc-7");
+
+        for (String ifNoneMatch : List.of("\"abc-7\"", "W/\"abc-7\"", "\"abc-6\", W/\"abc-7\"", "*")) {
+            mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"abc-7\""))
+                    .andExpect(content().string(""));
+        }
+        verify(mockEmployeeService, never()).getMockEmployees();
+    }
+
+    @Test
+    void rosterShouldBeSentWhenIfNoneMatchIsStaleOrMalformed() throws Exception {
+        when(mockEmployeeService.getRosterVersion()).thenReturn("abc-7");
+        when(mockEmployeeService.getMockEmployees()).thenReturn(new MockEmployeeStore.Versioned<>("abc-7", employees));
+
+        for (String ifNoneMatch : List.of("\"abc-6\"", "abc-7", "\"abc-77\"", "W/abc-7", "")) {
+            mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"abc-7\""))
+                    .andExpect(jsonPath("$.data.length()").value(3));
+        }
+    }
+
+    @Test
+    void deleteByIdShouldReturnTheRemovedEmployee() throws Exception {
+        MockEmployee employee = employees.get(0);
+        when(mockEmployeeService.deleteById(employee.getId())).thenReturn(Optional.of(employee));
+
+        mockMvc.perform(delete("/api/v1/employee/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(employee.getId().toString()))
+                .andExpect(jsonPath("$.data.employee_name").value("Employee 0"));
+    }
+
+    @Test
+    void deleteByIdShouldBe404ForAnUnknownId() throws Exception {
+        UUID unknown = UUID.randomUUID();
+        when(mockEmployeeService.deleteById(unknown)).thenReturn(Optional.empty());
+
+        mockMvc.perform(delete("/api/v1/employee/{id}", unknown))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void batchDeleteByIdShouldRejectBatchesOverTheLimit() throws Exception {
+        mockMvc.perform(delete("/api/v1/employee/batch/ids")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"%s\", \"%s\", \"%s\"]"
+                                .formatted(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID())))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(mockEmployeeService);
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.fixture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    // Not a multiple of the chunk size, so the last chunk is a partial one
+    private static final int COUNT = 10_000;
+
+    @Test
+    void sameSeedShouldGenerateTheSameRoster() {
+        final var first = new MockEmployeeGenerator(42, Locale.US).generate(COUNT);
+        final var second = new MockEmployeeGenerator(42, Locale.US).generate(COUNT);
+
+        assertEquals(COUNT, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void rosterShouldBeAPrefixOfALargerOneFromTheSameSeed() {
+        final var generator = new MockEmployeeGenerator(42, Locale.US);
+
+        assertEquals(generator.generate(COUNT).subList(0, 4096), generator.generate(4096));
+    }
+
+    @Test
+    void differentSeedsShouldGenerateDifferentRosters() {
+        final var first = new MockEmployeeGenerator(42, Locale.US).generate(100);
+        final var second = new MockEmployeeGenerator(43, Locale.US).generate(100);
+
+        assertNotEquals(first.get(0).getId(), second.get(0).getId());
+    }
+
+    @Test
+    void generatedEmployeesShouldBeCompleteWithUniqueVersion4Ids() {
+        final var employees = new MockEmployeeGenerator(7, Locale.US).generate(COUNT);
+
+        assertEquals(COUNT, employees.stream().map(MockEmployee::getId).distinct().count());
+        for (final var employee : employees) {
+            assertEquals(4, employee.getId().version());
+            assertEquals(2, employee.getId().variant());
+            assertFalse(employee.getName().isBlank());
+            assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000);
+            assertTrue(employee.getAge() >= 16 && employee.getAge() < 70);
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+        }
+    }
+
+    @Test
+    void countShouldBeRespectedAtTheEdges() {
+        final var generator = new MockEmployeeGenerator(1, Locale.US);
+
+        assertEquals(0, generator.generate(0).size());
+        assertEquals(1, generator.generate(1).size());
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1));
+    }
+}
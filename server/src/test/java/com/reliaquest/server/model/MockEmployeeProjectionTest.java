@@ -0,0 +1,38 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeProjectionTest {
+
+    private final MockEmployee employee = MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("John Doe")
+            .salary(100000)
+            .age(30)
+            .title("Engineer")
+            .email("john@company.com")
+            .build();
+
+    @Test
+    void projectionShouldKeepTheRequestedFieldsInRequestOrder() {
+        Map<String, Object> projected =
+                MockEmployeeProjection.parse(" employee_salary,employee_name,employee_salary,").apply(employee);
+
+        assertEquals(List.of("employee_salary", "employee_name"), List.copyOf(projected.keySet()));
+        assertEquals(100000, projected.get("employee_salary"));
+        assertEquals("John Doe", projected.get("employee_name"));
+    }
+
+    @Test
+    void parseShouldRejectUnknownOrMissingFields() {
+        IllegalArgumentException unknown = assertThrows(
+                IllegalArgumentException.class, () -> MockEmployeeProjection.parse("id,salary"));
+        assertTrue(unknown.getMessage().contains("'salary'"));
+        assertThrows(IllegalArgumentException.class, () -> MockEmployeeProjection.parse(" , "));
+    }
+}
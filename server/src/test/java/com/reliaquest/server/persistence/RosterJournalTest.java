@@ -0,0 +1,237 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(1000)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static MockEmployeeChange created(long sequence, MockEmployee employee) {
+        return new MockEmployeeChange(sequence, MockEmployeeChange.Type.CREATED, employee);
+    }
+
+    private static MockEmployeeChange deleted(long sequence, MockEmployee employee) {
+        return new MockEmployeeChange(
+                sequence,
+                MockEmployeeChange.Type.DELETED,
+                MockEmployee.builder().id(employee.getId()).build());
+    }
+
+    private static List<MockEmployeeChange> replay(Path path) throws IOException {
+        final var changes = new ArrayList<MockEmployeeChange>();
+        RosterJournal.replay(path, changes::add);
+        return changes;
+    }
+
+    private static FileChannel openForAppend(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    void replayShouldReturnEveryFlushedChangeInOrder() throws IOException {
+        final var path = directory.resolve("journal.log");
+        final var john = employee("John Doe");
+        final var changes = List.of(created(1, john), created(2, employee("Jane Smith")), deleted(3, john));
+
+        try (final var journal = RosterJournal.open(path)) {
+            changes.forEach(journal::append);
+            journal.flush();
+        }
+
+        assertEquals(changes, replay(path));
+    }
+
+    @Test
+    void replayShouldStopAtATornOrCorruptRecord() throws IOException {
+        final var path = directory.resolve("journal.log");
+        try (final var journal = RosterJournal.open(path)) {
+            journal.append(created(1, employee("John Doe")));
+            journal.append(created(2, employee("Jane Smith")));
+        }
+        final long intact;
+        try (final var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            intact = channel.size();
+            // Half of a third record, as left behind by a crash in the middle of a write
+            channel.write(ByteBuffer.allocate(Integer.BYTES + 8).putInt(100).flip(), intact);
+        }
+
+        assertEquals(List.of(1L, 2L), replay(path).stream().map(MockEmployeeChange::sequence).toList());
+
+        try (final var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(intact);
+            // Flip a payload byte of the second record so that its checksum no longer matches
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), intact - Integer.BYTES - 2);
+        }
+
+        assertEquals(List.of(1L), replay(path).stream().map(MockEmployeeChange::sequence).toList());
+    }
+
+    @Test
+    void failedFlushShouldKeepItsBatchAndRewriteItOnce() throws IOException {
+        final var path = directory.resolve("journal.log");
+        final var channel = new FailingForceChannel(openForAppend(path));
+        final var changes = List.of(
+                created(1, employee("John Doe")), created(2, employee("Jane Smith")), created(3, employee("Jim Beam")));
+
+        try (final var journal = new RosterJournal(channel)) {
+            journal.append(changes.get(0));
+            journal.flush();
+            journal.append(changes.get(1));
+            channel.failNextForce = true;
+            assertThrows(IOException.class, journal::flush);
+            journal.append(changes.get(2));
+            journal.flush();
+        }
+
+        assertEquals(changes, replay(path));
+    }
+
+    @Test
+    void rotateShouldFlushTheOldFileAndContinueInTheNewOne() throws IOException {
+        final var first = directory.resolve("journal-1.log");
+        final var second = directory.resolve("journal-2.log");
+        final var john = employee("John Doe");
+
+        try (final var journal = RosterJournal.open(first)) {
+            journal.append(created(1, john));
+            journal.rotate(second);
+            journal.append(deleted(2, john));
+        }
+
+        assertEquals(List.of(created(1, john)), replay(first));
+        assertEquals(List.of(2L), replay(second).stream().map(MockEmployeeChange::sequence).toList());
+    }
+
+    /**
+     * Writes through to a real file but fails a forced sync on request, after the batch has reached the file.
+     */
+    private static final class FailingForceChannel extends FileChannel {
+
+        private final FileChannel delegate;
+        private boolean failNextForce;
+
+        FailingForceChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (failNextForce) {
+                failNextForce = false;
+                throw new IOException("No space left on device");
+            }
+            delegate.force(metaData);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
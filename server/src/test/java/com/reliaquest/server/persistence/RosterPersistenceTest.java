@@ -0,0 +1,132 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterPersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(1000)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static List<MockEmployee> roster(int size) {
+        return IntStream.range(0, size).mapToObj(i -> employee("Employee " + i)).toList();
+    }
+
+    private RosterPersistence persistence() {
+        // Long intervals keep the background work out of the way; the tests flush and snapshot explicitly
+        return new RosterPersistence(directory, Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+    private List<String> files() throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @Test
+    void emptyDirectoryShouldRecoverNothing() {
+        assertTrue(persistence().recover().isEmpty());
+    }
+
+    @Test
+    void cleanShutdownShouldRecoverTheSameEpochVersionAndRoster() throws IOException {
+        final var store = new MockEmployeeStore(roster(3));
+        final var persistence = persistence();
+        persistence.attach(store);
+        store.add(employee("Jane Smith"));
+        store.removeById(store.snapshot().get(0).getId());
+        persistence.close();
+
+        final var recovered = persistence().recover().orElseThrow();
+
+        assertEquals(store.checkpoint(), recovered);
+        assertFalse(files().contains("clean-shutdown"));
+    }
+
+    @Test
+    void uncleanShutdownShouldReplayFlushedChangesUnderANewEpoch() {
+        final var store = new MockEmployeeStore(roster(3));
+        final var persistence = persistence();
+        persistence.attach(store);
+        store.add(employee("Jane Smith"));
+        store.removeById(store.snapshot().get(0).getId());
+        persistence.flush();
+        // No close: the process dies here
+
+        final var recovered = persistence().recover().orElseThrow();
+
+        assertNotEquals(store.checkpoint().epoch(), recovered.epoch());
+        assertEquals(store.checkpoint().version(), recovered.version());
+        assertEquals(store.snapshot(), recovered.employees());
+    }
+
+    @Test
+    void recoveredStoreShouldNotLookCleanAfterItCrashesToo() throws IOException {
+        final var persistence = persistence();
+        persistence.attach(new MockEmployeeStore(roster(2)));
+        persistence.close();
+        final var firstRecovery = persistence().recover().orElseThrow();
+
+        final var restarted = persistence();
+        restarted.attach(new MockEmployeeStore(firstRecovery, 100));
+        // The restarted server dies without closing
+
+        assertNotEquals(firstRecovery.epoch(), persistence().recover().orElseThrow().epoch());
+    }
+
+    @Test
+    void snapshotShouldStartANewGenerationAndDeleteTheOlderOnes() throws IOException {
+        final var store = new MockEmployeeStore(roster(3));
+        final var persistence = persistence();
+        persistence.attach(store);
+        store.add(employee("Jane Smith"));
+        persistence.snapshot();
+        store.add(employee("Jim Beam"));
+        persistence.snapshot();
+        store.removeById(store.snapshot().get(1).getId());
+        persistence.close();
+
+        assertEquals(
+                List.of(
+                        "clean-shutdown",
+                        "journal-%020d.log".formatted(3),
+                        "roster-%020d.snapshot".formatted(3)),
+                files());
+        assertEquals(store.checkpoint(), persistence().recover().orElseThrow());
+    }
+
+    @Test
+    void recoveryShouldFallBackToAnOlderSnapshotAndReplayItsJournals() throws IOException {
+        final var store = new MockEmployeeStore(roster(3));
+        final var persistence = persistence();
+        persistence.attach(store);
+        store.add(employee("Jane Smith"));
+        persistence.close();
+        // A newer generation whose snapshot never made it to disk intact
+        Files.write(directory.resolve("roster-%020d.snapshot".formatted(2)), new byte[] {1, 2, 3});
+
+        assertEquals(store.checkpoint(), persistence().recover().orElseThrow());
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    private static List<MockEmployee> roster(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee " + i + " é")
+                        .salary(1000 + i)
+                        .age(20 + i % 40)
+                        .title("Engineer")
+                        .email("employee" + i + "@company.com")
+                        .build())
+                .toList();
+    }
+
+    @Test
+    void checkpointShouldSurviveARoundTrip() throws IOException {
+        // Large enough to spill over the write buffer, plus an employee with no optional fields
+        final var employees = new ArrayList<>(roster(20_000));
+        employees.add(MockEmployee.builder().id(UUID.randomUUID()).build());
+        final var checkpoint = new MockEmployeeStore.Checkpoint("c0ffee", 42, employees);
+        final var path = directory.resolve("roster.snapshot");
+
+        RosterSnapshotFile.write(path, checkpoint);
+
+        assertEquals(checkpoint, RosterSnapshotFile.read(path));
+        assertFalse(Files.exists(directory.resolve("roster.snapshot.tmp")));
+    }
+
+    @Test
+    void readShouldRejectACorruptOrTruncatedFile() throws IOException {
+        final var path = directory.resolve("roster.snapshot");
+        RosterSnapshotFile.write(path, new MockEmployeeStore.Checkpoint("c0ffee", 3, roster(3)));
+        try (final var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), 40);
+        }
+
+        assertThrows(IOException.class, () -> RosterSnapshotFile.read(path));
+
+        Files.write(path, new byte[10]);
+        assertThrows(IOException.class, () -> RosterSnapshotFile.read(path));
+    }
+}
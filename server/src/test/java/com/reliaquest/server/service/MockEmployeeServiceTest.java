@@ -0,0 +1,59 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.server.model.BatchItemResult;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(1000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+
+    @Test
+    void deleteAllByIdShouldReportEachIdAndLeaveNamesakesAlone() {
+        MockEmployee first = employee("John Doe");
+        MockEmployee second = employee("John Doe");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(first, second));
+        MockEmployeeService service = new MockEmployeeService(mock(Faker.class), store, mock(Validator.class));
+
+        List<BatchItemResult<MockEmployee>> results =
+                service.deleteAllById(Arrays.asList(second.getId(), UUID.randomUUID(), null));
+
+        assertEquals(second, results.get(0).data());
+        assertEquals(Response.Status.HANDLED, results.get(1).status());
+        assertNull(results.get(1).data());
+        assertEquals(Response.Status.ERROR, results.get(2).status());
+        assertEquals(List.of(first), store.snapshot());
+    }
+
+    @Test
+    void deleteByIdShouldRemoveOnlyThatEmployee() {
+        MockEmployee first = employee("John Doe");
+        MockEmployee second = employee("John Doe");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(first, second));
+        MockEmployeeService service = new MockEmployeeService(mock(Faker.class), store, mock(Validator.class));
+
+        assertEquals(Optional.of(second), service.deleteById(second.getId()));
+        assertEquals(Optional.empty(), service.deleteById(second.getId()));
+        assertEquals(List.of(first), store.snapshot());
+    }
+}
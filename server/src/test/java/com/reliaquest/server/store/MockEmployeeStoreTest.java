@@ -0,0 +1,220 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static List<MockEmployee> roster(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> employee("Employee " + i, 1000 + i))
+                .toList();
+    }
+
+    @Test
+    void listingsShouldKeepInsertionOrder() {
+        List<MockEmployee> employees = roster(500);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+
+        assertEquals(employees, store.snapshot());
+        assertEquals(employees, store.versionedSnapshot().value());
+        assertEquals(employees, store.checkpoint().employees());
+    }
+
+    @Test
+    void replacedEmployeeShouldKeepItsPositionAndRemovedOneShouldDisappear() {
+        List<MockEmployee> employees = roster(3);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+        MockEmployee renamed = employees.get(0).toBuilder().name("Renamed").build();
+
+        store.add(renamed);
+        store.removeById(employees.get(1).getId());
+
+        assertEquals(List.of(renamed, employees.get(2)), store.snapshot());
+        assertEquals(2, store.size());
+        assertEquals(renamed, store.findById(renamed.getId()).orElseThrow());
+    }
+
+    @Test
+    void removeByNameShouldRemoveTheOldestMatchIgnoringCase() {
+        MockEmployee first = employee("John Doe", 1);
+        MockEmployee second = employee("john doe", 2);
+        MockEmployeeStore store = new MockEmployeeStore(List.of(first, second));
+
+        assertEquals(first, store.removeByName("JOHN DOE").orElseThrow());
+        assertEquals(List.of(second), store.snapshot());
+        assertEquals(List.of(true, false), store.removeAllByName(List.of("John Doe", "John Doe")).stream()
+                .map(Optional::isPresent)
+                .toList());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void removeAllByIdShouldRemoveExactlyTheGivenEmployeesWhenNamesAreShared() {
+        MockEmployee first = employee("John Doe", 1);
+        MockEmployee second = employee("John Doe", 2);
+        MockEmployeeStore store = new MockEmployeeStore(List.of(first, second));
+
+        List<Optional<MockEmployee>> removed =
+                store.removeAllById(Arrays.asList(second.getId(), second.getId(), null, UUID.randomUUID()));
+
+        assertEquals(List.of(Optional.of(second), Optional.empty(), Optional.empty(), Optional.empty()), removed);
+        assertEquals(List.of(first), store.snapshot());
+    }
+
+    @Test
+    void pagesShouldWalkTheRosterInIdOrderWithoutGapsOrRepeats() {
+        List<MockEmployee> employees = roster(25);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+        List<MockEmployee> walked = new ArrayList<>();
+
+        List<MockEmployee> page = store.page(null, 10);
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= 10);
+            walked.addAll(page);
+            page = store.page(page.get(page.size() - 1).getId(), 10);
+        }
+
+        assertEquals(
+                employees.stream()
+                        .sorted(Comparator.comparing(MockEmployee::getId))
+                        .toList(),
+                walked);
+    }
+
+    @Test
+    void pageShouldResumeAfterACursorThatWasDeleted() {
+        List<MockEmployee> employees = roster(5).stream()
+                .sorted(Comparator.comparing(MockEmployee::getId))
+                .toList();
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+
+        store.removeById(employees.get(1).getId());
+
+        assertEquals(employees.subList(2, 4), store.page(employees.get(1).getId(), 2));
+    }
+
+    @Test
+    void shortFragmentSearchShouldScanInInsertionOrder() {
+        List<MockEmployee> employees = roster(200);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+
+        assertEquals(employees.subList(0, 50), store.searchByName("e", false, 50));
+        assertEquals(employees.subList(0, 200), store.searchByName("Em", false, 500));
+        assertEquals(
+                List.of(employees.get(7), employees.get(17), employees.get(27)),
+                store.searchByName("7", true, 3));
+    }
+
+    @Test
+    void longFragmentSearchShouldVerifyCandidatesInInsertionOrder() {
+        List<MockEmployee> employees = roster(200);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+
+        assertEquals(
+                List.of(employees.get(12), employees.get(120), employees.get(121)),
+                store.searchByName("EE 12", true, 3));
+        assertEquals(List.of(), store.searchByName("EE 12", false, 3));
+    }
+
+    @Test
+    void everyWriteShouldBumpTheVersionTag() {
+        MockEmployeeStore store = new MockEmployeeStore(roster(2));
+        List<String> tags = new ArrayList<>(List.of(store.versionTag()));
+
+        store.add(employee("Jane Smith", 10));
+        tags.add(store.versionTag());
+        store.removeByName("Jane Smith");
+        tags.add(store.versionTag());
+        store.removeByName("Nobody");
+        tags.add(store.versionTag());
+
+        assertTrue(tags.get(0).endsWith("-2"));
+        assertEquals(3, tags.stream().distinct().count());
+        assertEquals(tags.get(2), tags.get(3));
+    }
+
+    @Test
+    void changesSinceShouldPageThroughTheLogOldestFirst() {
+        List<MockEmployee> employees = roster(3);
+        MockEmployeeStore store = new MockEmployeeStore(employees, 4);
+
+        MockEmployeeChanges all = store.changesSince(0, 10);
+        MockEmployeeChanges second = store.changesSince(1, 1);
+
+        assertFalse(all.reset());
+        assertEquals(3, all.version());
+        assertEquals(List.of(1L, 2L, 3L), all.changes().stream().map(MockEmployeeChange::sequence).toList());
+        assertEquals(employees, all.changes().stream().map(MockEmployeeChange::employee).toList());
+        assertEquals(2, second.version());
+        assertEquals(employees.get(1), second.changes().get(0).employee());
+        assertEquals(List.of(), store.changesSince(3, 10).changes());
+    }
+
+    @Test
+    void changesSinceShouldResetOnceTheRingHasWrappedPastTheCaller() {
+        List<MockEmployee> employees = roster(3);
+        MockEmployeeStore store = new MockEmployeeStore(employees, 4);
+        store.removeById(employees.get(0).getId());
+        store.add(employee("Jane Smith", 10));
+        store.add(employee("Jim Beam", 20));
+
+        MockEmployeeChanges retained = store.changesSince(2, 10);
+
+        assertFalse(retained.reset());
+        assertEquals(List.of(3L, 4L, 5L, 6L), retained.changes().stream().map(MockEmployeeChange::sequence).toList());
+        assertEquals(MockEmployeeChange.Type.DELETED, retained.changes().get(1).type());
+        assertEquals(employees.get(0), retained.changes().get(1).employee());
+        assertTrue(store.changesSince(1, 10).reset());
+        assertEquals(6, store.changesSince(1, 10).version());
+        assertTrue(store.changesSince(7, 10).reset());
+        assertTrue(store.changesSince(-1, 10).reset());
+    }
+
+    @Test
+    void restoredStoreShouldResumeTheCheckpointWithoutRecordingChanges() {
+        MockEmployeeStore original = new MockEmployeeStore(roster(10));
+
+        MockEmployeeStore restored = new MockEmployeeStore(original.checkpoint(), 100);
+
+        assertEquals(original.versionTag(), restored.versionTag());
+        assertEquals(original.snapshot(), restored.snapshot());
+        assertTrue(restored.changesSince(0, 100).reset());
+        assertFalse(restored.changesSince(10, 100).reset());
+    }
+
+    @Test
+    void checkpointUnderANewEpochShouldKeepItsVersionAndRoster() {
+        MockEmployeeStore.Checkpoint checkpoint = new MockEmployeeStore(roster(3)).checkpoint();
+
+        MockEmployeeStore.Checkpoint renewed = checkpoint.withNewEpoch();
+
+        assertNotEquals(checkpoint.epoch(), renewed.epoch());
+        assertEquals(checkpoint.version(), renewed.version());
+        assertEquals(checkpoint.employees(), renewed.employees());
+        assertNotEquals(
+                new MockEmployeeStore(checkpoint, 10).versionTag(), new MockEmployeeStore(renewed, 10).versionTag());
+    }
+}
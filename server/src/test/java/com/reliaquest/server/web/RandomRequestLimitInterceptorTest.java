@@ -0,0 +1,33 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    @Test
+    void retryAfterShouldRoundUpToWholeSeconds() {
+        assertEquals(1, RandomRequestLimitInterceptor.retryAfterSeconds(1));
+        assertEquals(1, RandomRequestLimitInterceptor.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(2, RandomRequestLimitInterceptor.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1) + 1));
+    }
+
+    @Test
+    void rejectedRequestShouldGet429WithRetryAfter() {
+        RandomRequestLimitInterceptor interceptor = new RandomRequestLimitInterceptor(
+                clientKey -> "slow".equals(clientKey) ? TimeUnit.MILLISECONDS.toNanos(2500) : 0, true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RandomRequestLimitInterceptor.CLIENT_ID_HEADER, "slow");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+        assertEquals(429, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.reliaquest.server.web.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RequestLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private CasRequestLimiter<?> limiter(RateLimitStrategy strategy, int limit) {
+        return (CasRequestLimiter<?>) strategy.create(limit, WINDOW, clock::get);
+    }
+
+    private static int allowed(RequestLimiter limiter, String client, int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limiter.tryAcquire(client) == 0) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Test
+    void fixedWindowShouldRejectUntilTheWindowCloses() {
+        RequestLimiter limiter = limiter(RateLimitStrategy.FIXED_WINDOW, 3);
+
+        assertEquals(3, allowed(limiter, "a", 5));
+        advance(Duration.ofSeconds(4));
+        assertEquals(TimeUnit.SECONDS.toNanos(6), limiter.tryAcquire("a"));
+
+        advance(Duration.ofSeconds(6));
+        assertEquals(3, allowed(limiter, "a", 5));
+    }
+
+    @Test
+    void slidingWindowShouldWeighThePreviousWindow() {
+        RequestLimiter limiter = limiter(RateLimitStrategy.SLIDING_WINDOW, 4);
+        assertEquals(4, allowed(limiter, "a", 4));
+
+        // Halfway into the next window half of the previous count still applies
+        advance(Duration.ofSeconds(15));
+        assertEquals(2, allowed(limiter, "a", 4));
+
+        advance(Duration.ofSeconds(20));
+        assertEquals(4, allowed(limiter, "a", 5));
+    }
+
+    @Test
+    void tokenBucketShouldRefillAtTheConfiguredRate() {
+        RequestLimiter limiter = limiter(RateLimitStrategy.TOKEN_BUCKET, 5);
+        assertEquals(5, allowed(limiter, "a", 6));
+
+        assertEquals(TimeUnit.SECONDS.toNanos(2), limiter.tryAcquire("a"));
+        advance(Duration.ofSeconds(4));
+        assertEquals(2, allowed(limiter, "a", 3));
+    }
+
+    @Test
+    void budgetsShouldBeKeptPerClient() {
+        for (RateLimitStrategy strategy : new RateLimitStrategy[] {
+            RateLimitStrategy.FIXED_WINDOW, RateLimitStrategy.SLIDING_WINDOW, RateLimitStrategy.TOKEN_BUCKET
+        }) {
+            RequestLimiter limiter = limiter(strategy, 2);
+
+            assertEquals(2, allowed(limiter, "a", 3), strategy.name());
+            assertEquals(2, allowed(limiter, "b", 3), strategy.name());
+        }
+    }
+
+    @Test
+    void concurrentRequestsShouldBeChargedExactlyOnce() throws Exception {
+        for (RateLimitStrategy strategy : new RateLimitStrategy[] {
+            RateLimitStrategy.FIXED_WINDOW, RateLimitStrategy.SLIDING_WINDOW, RateLimitStrategy.TOKEN_BUCKET
+        }) {
+            RequestLimiter limiter = limiter(strategy, 1000);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                var results = new ArrayList<Future<Integer>>();
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return allowed(limiter, "a", 500);
+                    }));
+                }
+                start.countDown();
+                int total = 0;
+                for (Future<Integer> result : results) {
+                    total += result.get(10, TimeUnit.SECONDS);
+                }
+                assertEquals(1000, total, strategy.name());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void idleClientsShouldBeSweptOnceTheirBudgetIsFull() {
+        for (RateLimitStrategy strategy : new RateLimitStrategy[] {
+            RateLimitStrategy.FIXED_WINDOW, RateLimitStrategy.SLIDING_WINDOW, RateLimitStrategy.TOKEN_BUCKET
+        }) {
+            CasRequestLimiter<?> limiter = limiter(strategy, 2);
+            for (int i = 0; i < 100; i++) {
+                limiter.tryAcquire("client-" + i);
+            }
+            assertEquals(100, limiter.trackedClients(), strategy.name());
+
+            advance(WINDOW.multipliedBy(2));
+            limiter.tryAcquire("active");
+            limiter.tryAcquire("active");
+            advance(WINDOW.dividedBy(4));
+            limiter.tryAcquire("late");
+
+            assertEquals(2, limiter.trackedClients(), strategy.name());
+            assertTrue(limiter.tryAcquire("active") > 0, strategy.name());
+        }
+    }
+
+    @Test
+    void clientsBeyondTheCapShouldShareAnOverflowBudget() {
+        CasRequestLimiter<?> limiter = limiter(RateLimitStrategy.FIXED_WINDOW, 1);
+        for (int i = 0; i < CasRequestLimiter.MAX_CLIENTS; i++) {
+            assertEquals(0, limiter.tryAcquire("client-" + i));
+        }
+
+        assertEquals(0, limiter.tryAcquire("one-more"));
+        assertTrue(limiter.tryAcquire("and-another") > 0);
+        assertEquals(CasRequestLimiter.MAX_CLIENTS + 1, limiter.trackedClients());
+    }
+}